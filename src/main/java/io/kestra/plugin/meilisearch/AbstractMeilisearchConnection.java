@@ -1,9 +1,12 @@
 package io.kestra.plugin.meilisearch;
 
+import java.util.concurrent.Callable;
+
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Config;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
@@ -27,4 +30,33 @@ public abstract class AbstractMeilisearchConnection extends Task implements Meil
         );
         return new Client(config);
     }
+
+    MeilisearchApi createApi(RunContext runContext) throws IllegalVariableEvaluationException {
+        return new MeilisearchApi(
+            runContext.render(this.url).as(String.class).orElseThrow(),
+            runContext.render(this.key).as(String.class).orElseThrow()
+        );
+    }
+
+    /**
+     * Runs {@code call} through {@link SingleFlight} when {@code enabled} renders to true, keyed by the connection and
+     * the given request parts, and counts the calls saved in the {@code coalescedRequests} metric.
+     */
+    <T> T coalesce(RunContext runContext, Property<Boolean> enabled, Callable<T> call, Object... request) throws Exception {
+        if (!runContext.render(enabled).as(Boolean.class).orElse(false)) {
+            return call.call();
+        }
+
+        String flightKey = SingleFlight.key(
+            runContext.render(this.url).as(String.class).orElseThrow(),
+            runContext.render(this.key).as(String.class).orElseThrow(),
+            request
+        );
+        SingleFlight.Result<T> result = SingleFlight.execute(flightKey, call);
+        if (result.shared()) {
+            runContext.metric(Counter.of("coalescedRequests", 1));
+        }
+
+        return result.value();
+    }
 }
@@ -3,14 +3,13 @@ package io.kestra.plugin.meilisearch;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Index;
-import com.meilisearch.sdk.model.TaskError;
-import com.meilisearch.sdk.model.TaskStatus;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
@@ -23,12 +22,15 @@ import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -40,7 +42,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Add documents to Meilisearch",
-    description = "Adds one or multiple documents to a Meilisearch index using the [add-or-replace API](https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents). Documents are read from the `from` source, rendered by Kestra, and sent in batches; by default the task waits for the indexing tasks to complete and fails if any of them fails. Requires index URL and API key."
+    description = "Adds one or multiple documents to a Meilisearch index using the [add-or-replace API](https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents). Documents are read from the `from` source, rendered by Kestra, and sent in batches; by default the task waits for the indexing tasks to complete and fails if any of them fails. If the execution is killed or times out while the task runs, no further batch is sent and the indexing tasks it enqueued and that are not yet completed are canceled on the server. Requires index URL and API key."
 )
 @Plugin(
     examples = {
@@ -89,6 +91,10 @@ public class DocumentAdd extends AbstractMeilisearchConnection implements Runnab
     private static final int WAIT_INTERVAL_MS = 500;
 
     @NotNull
+    @Schema(
+        title = "Documents to add",
+        description = "A Kestra storage URI, a document map, a list of document maps, or a list of Kestra storage URIs. A list of URIs, such as the files of a partitioned dataset, is decoded in parallel and fed into a single batching and indexing pipeline; it can be given as a YAML list or as an expression rendering to a JSON list, e.g. `{{ outputs.split.uris }}`."
+    )
     @PluginProperty(group = "main")
     private Object from;
 
@@ -112,6 +118,18 @@ public class DocumentAdd extends AbstractMeilisearchConnection implements Runnab
     @PluginProperty(group = "advanced")
     private Property<Duration> waitTimeout = Property.ofValue(DEFAULT_WAIT_TIMEOUT);
 
+    @Schema(title = "Read parallelism", description = "Maximum number of source files decoded in parallel when `from` is a list of URIs; defaults to the number of available processors.")
+    @PluginProperty(group = "advanced")
+    private Property<Integer> readParallelism;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient volatile MeilisearchTasks.Pending pendingTasks;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient volatile boolean killed;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -120,44 +138,107 @@ public class DocumentAdd extends AbstractMeilisearchConnection implements Runnab
         var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
         Index documentIndex = client.index(renderedIndex);
         var renderedBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(DEFAULT_BATCH_SIZE);
-
-        List<Integer> taskUids = new ArrayList<>();
-        Integer count = Data.from(from).read(runContext)
-            .buffer(renderedBatchSize)
-            .map(throwFunction(batch ->
-            {
-                taskUids.add(documentIndex.addDocuments(MAPPER.writeValueAsString(batch)).getTaskUid());
-                return batch.size();
-            }))
-            .reduce(Integer::sum)
-            .blockOptional()
-            .orElse(0);
-
-        if (runContext.render(this.waitForIndexing).as(Boolean.class).orElse(true)) {
-            int timeoutMs = (int) runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT).toMillis();
-            for (Integer taskUid : taskUids) {
-                documentIndex.waitForTask(taskUid, timeoutMs, WAIT_INTERVAL_MS);
-                var task = documentIndex.getTask(taskUid);
-                if (TaskStatus.FAILED.equals(task.getStatus()) || TaskStatus.CANCELED.equals(task.getStatus())) {
-                    TaskError error = task.getError();
-                    throw new RuntimeException(String.format(
-                        "Meilisearch indexing task %d on index '%s' ended with status %s%s",
-                        taskUid,
-                        renderedIndex,
-                        task.getStatus(),
-                        error != null ? ": " + error.getMessage() + " (" + error.getCode() + ")" : ""
-                    ));
+        var renderedWaitForIndexing = runContext.render(this.waitForIndexing).as(Boolean.class).orElse(true);
+        MeilisearchTasks.Pending pending = new MeilisearchTasks.Pending(client, logger);
+        this.pendingTasks = pending;
+
+        try {
+            List<Integer> taskUids = new ArrayList<>();
+            Integer count = this.readDocuments(runContext)
+                .buffer(renderedBatchSize)
+                .map(throwFunction(batch ->
+                {
+                    if (this.killed) {
+                        throw new IllegalStateException(String.format("Killed after enqueuing %d batches to index '%s'", taskUids.size(), renderedIndex));
+                    }
+
+                    int taskUid = documentIndex.addDocuments(MAPPER.writeValueAsString(batch)).getTaskUid();
+                    taskUids.add(taskUid);
+                    pending.add(taskUid);
+                    // a kill between addDocuments and add did not see this task: cancel it here
+                    if (this.killed) {
+                        pending.cancelAll();
+                    }
+                    return batch.size();
+                }))
+                .reduce(Integer::sum)
+                .blockOptional()
+                .orElse(0);
+
+            if (renderedWaitForIndexing) {
+                int timeoutMs = (int) runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT).toMillis();
+                for (Integer taskUid : taskUids) {
+                    documentIndex.waitForTask(taskUid, timeoutMs, WAIT_INTERVAL_MS);
+                    MeilisearchTasks.ensureSucceeded(
+                        documentIndex.getTask(taskUid),
+                        String.format("indexing task %d on index '%s'", taskUid, renderedIndex)
+                    );
+                    pending.remove(taskUid);
                 }
             }
+
+            runContext.metric(Counter.of("documentAdded", count));
+            logger.info("Successfully added {} documents to index {} in {} batches", count, renderedIndex, taskUids.size());
+
+            return Output.builder()
+                .taskUids(taskUids)
+                .documentsAdded(count)
+                .build();
+        } finally {
+            // once run returns, tasks left running with waitForIndexing disabled are no longer ours to cancel
+            this.pendingTasks = null;
         }
+    }
 
-        runContext.metric(Counter.of("documentAdded", count));
-        logger.info("Successfully added {} documents to index {} in {} batches", count, renderedIndex, taskUids.size());
+    @Override
+    public void kill() {
+        this.killed = true;
+        MeilisearchTasks.Pending pending = this.pendingTasks;
+        if (pending != null) {
+            pending.cancelAll();
+        }
+    }
 
-        return Output.builder()
-            .taskUids(taskUids)
-            .documentsAdded(count)
-            .build();
+    private Flux<Map<String, Object>> readDocuments(RunContext runContext) throws Exception {
+        List<String> sources = this.sourceUris(runContext);
+        if (sources != null) {
+            int parallelism = runContext.render(this.readParallelism).as(Integer.class).orElse(Runtime.getRuntime().availableProcessors());
+            runContext.logger().debug("Reading documents from {} sources with a parallelism of {}", sources.size(), parallelism);
+
+            return Flux.fromIterable(sources)
+                .flatMap(
+                    throwFunction(source -> Data.from(source).read(runContext).subscribeOn(Schedulers.boundedElastic())),
+                    parallelism
+                );
+        }
+
+        return Data.from(this.from).read(runContext);
+    }
+
+    /**
+     * Returns the storage URIs to read in parallel, when {@code from} is a list of URIs, either given as a YAML list or
+     * as an expression rendering to a JSON list such as {@code "{{ outputs.split.uris }}"}; null otherwise.
+     */
+    private List<String> sourceUris(RunContext runContext) throws Exception {
+        List<?> sources = null;
+        if (this.from instanceof List<?> list) {
+            sources = list;
+        } else if (this.from instanceof String expression) {
+            String rendered = runContext.render(expression).trim();
+            if (rendered.startsWith("[")) {
+                sources = MAPPER.readValue(rendered, List.class);
+            }
+        }
+
+        if (sources == null || sources.isEmpty() || !sources.stream().allMatch(String.class::isInstance)) {
+            return null;
+        }
+
+        List<String> uris = new ArrayList<>();
+        for (Object source : sources) {
+            uris.add(runContext.render((String) source));
+        }
+        return uris;
     }
 
     @Builder
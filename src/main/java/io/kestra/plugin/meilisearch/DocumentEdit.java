@@ -0,0 +1,160 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Edit documents in Meilisearch with a function",
+    description = """
+        Runs a [Rhai function](https://www.meilisearch.com/docs/reference/api/documents#update-documents-with-function) on the Meilisearch server against every document matching `filter`, so bulk edits do not need to export and re-add the documents. The task waits for the edition task to complete, fails if it fails, and cancels it if the execution is killed.
+
+        Requires the `editDocumentsByFunction` experimental feature to be enabled on the Meilisearch instance."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Uppercase the title of every drama",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_edit_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: edit
+                        type: io.kestra.plugin.meilisearch.DocumentEdit
+                        index: movies
+                        filter: "genres = Drama"
+                        function: "doc.title = doc.title.to_upper()"
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "documentEdited",
+            description = "The number of documents edited by the function",
+            type = Counter.TYPE
+        )
+    }
+)
+public class DocumentEdit extends AbstractMeilisearchConnection implements RunnableTask<DocumentEdit.Output> {
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(5);
+
+    @NotNull
+    @Schema(title = "Index", description = "Name of the Meilisearch index containing the documents to edit.")
+    @PluginProperty(group = "main")
+    private Property<String> index;
+
+    @NotNull
+    @Schema(title = "Function", description = "Rhai function applied to each matching document, available as `doc`; set `doc` to `()` to delete it.")
+    @PluginProperty(group = "main")
+    private Property<String> function;
+
+    @Schema(title = "Filter", description = "Meilisearch filter selecting the documents to edit; all documents when not set.")
+    @PluginProperty(group = "processing")
+    private Property<String> filter;
+
+    @Schema(title = "Context", description = "Values made available to the function as `context`.")
+    @PluginProperty(group = "processing")
+    private Property<Map<String, Object>> context;
+
+    @Schema(title = "Wait timeout", description = "Maximum time to wait for the edition task to complete.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> waitTimeout = Property.ofValue(DEFAULT_WAIT_TIMEOUT);
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient volatile MeilisearchTasks.Pending pendingTasks;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Client client = this.createClient(runContext);
+        MeilisearchApi api = this.createApi(runContext);
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+        this.pendingTasks = new MeilisearchTasks.Pending(client, logger);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("function", runContext.render(this.function).as(String.class).orElseThrow());
+        runContext.render(this.filter).as(String.class).ifPresent(value -> body.put("filter", value));
+        Map<String, Object> renderedContext = runContext.render(this.context).asMap(String.class, Object.class);
+        if (!renderedContext.isEmpty()) {
+            body.put("context", renderedContext);
+        }
+
+        int taskUid = ((Number) api.post("/indexes/" + renderedIndex + "/documents/edit", body).get("taskUid")).intValue();
+        this.pendingTasks.add(taskUid);
+
+        Duration timeout = runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT);
+        MeilisearchTasks.ensureSucceeded(
+            MeilisearchTasks.await(client, taskUid, timeout),
+            String.format("edition task %d on index '%s'", taskUid, renderedIndex)
+        );
+        this.pendingTasks.remove(taskUid);
+
+        long edited = 0;
+        if (api.get("/tasks/" + taskUid).get("details") instanceof Map<?, ?> details && details.get("editedDocuments") instanceof Number number) {
+            edited = number.longValue();
+        }
+
+        runContext.metric(Counter.of("documentEdited", edited));
+        logger.info("Successfully edited {} documents in index {}", edited, renderedIndex);
+
+        return Output.builder()
+            .taskUid(taskUid)
+            .documentsEdited(edited)
+            .build();
+    }
+
+    @Override
+    public void kill() {
+        MeilisearchTasks.Pending pending = this.pendingTasks;
+        if (pending != null) {
+            pending.cancelAll();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Task UID", description = "UID of the Meilisearch edition task.")
+        private final Integer taskUid;
+        @Schema(title = "Documents edited", description = "Number of documents modified by the function.")
+        private final Long documentsEdited;
+    }
+}
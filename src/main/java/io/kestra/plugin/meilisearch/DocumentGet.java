@@ -5,7 +5,9 @@ import java.util.Map;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Index;
 
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -50,9 +52,16 @@ import io.kestra.core.models.annotations.PluginProperty;
                     """
             }
         )
+    },
+    metrics = {
+        @Metric(
+            name = "coalescedRequests",
+            description = "The number of HTTP calls saved by sharing the result of an identical in-flight request, when `coalesceRequests` is enabled",
+            type = Counter.TYPE
+        )
     }
 )
-public class DocumentGet extends AbstractMeilisearchConnection implements RunnableTask<DocumentGet.Output> {
+public class DocumentGet extends AbstractMeilisearchConnection implements RunnableTask<DocumentGet.Output>, MeilisearchCoalescingInterface {
     @NotNull
     @Schema(title = "Document ID", description = "Identifier of the document to retrieve; templated before the request.")
     @PluginProperty(group = "main")
@@ -63,12 +72,22 @@ public class DocumentGet extends AbstractMeilisearchConnection implements Runnab
     @PluginProperty(group = "main")
     private Property<String> index;
 
+    @Builder.Default
+    private Property<Boolean> coalesceRequests = Property.ofValue(false);
+
     @Override
     public DocumentGet.Output run(RunContext runContext) throws Exception {
         Client client = this.createClient(runContext);
 
-        Index searchIndex = client.index(runContext.render(this.index).as(String.class).orElseThrow());
-        Map<String, Object> output = (Map<String, Object>) searchIndex.getDocument(runContext.render(this.documentId).as(String.class).orElseThrow(), Map.class);
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+        var renderedDocumentId = runContext.render(this.documentId).as(String.class).orElseThrow();
+        Index searchIndex = client.index(renderedIndex);
+        Map<String, Object> output = (Map<String, Object>) this.coalesce(
+            runContext,
+            this.coalesceRequests,
+            () -> searchIndex.getDocument(renderedDocumentId, Map.class),
+            "getDocument", renderedIndex, renderedDocumentId
+        );
 
         return Output.builder()
             .document(output)
@@ -0,0 +1,114 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.model.Task;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Create a Meilisearch dump",
+    description = """
+        Triggers a [dump](https://www.meilisearch.com/docs/reference/api/dump) of the whole Meilisearch instance and waits for it to complete. A dump is a portable export of the documents and settings that can be imported into any Meilisearch version by starting the server with `--import-dump`, which is much faster than re-indexing the source data with `DocumentAdd`.
+
+        The dump file is written to the server's dump directory; Meilisearch does not expose its size through the API."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Nightly backup of a Meilisearch instance",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_dump_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: dump
+                        type: io.kestra.plugin.meilisearch.DumpCreate
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                        waitTimeout: PT1H
+
+                    triggers:
+                      - id: nightly
+                        type: io.kestra.plugin.core.trigger.Schedule
+                        cron: "0 2 * * *"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(name = "duration", description = "The time between the dump request and its completion", type = Timer.TYPE)
+    }
+)
+public class DumpCreate extends AbstractMeilisearchConnection implements RunnableTask<DumpCreate.Output> {
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(30);
+
+    @Schema(title = "Wait timeout", description = "Maximum time to wait for the dump to complete.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> waitTimeout = Property.ofValue(DEFAULT_WAIT_TIMEOUT);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Client client = this.createClient(runContext);
+        Duration timeout = runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT);
+
+        long start = System.nanoTime();
+        int taskUid = client.createDump().getTaskUid();
+        logger.info("Dump enqueued as task {}", taskUid);
+
+        Task task = MeilisearchTasks.await(client, taskUid, timeout);
+        MeilisearchTasks.ensureSucceeded(task, String.format("dump task %d", taskUid));
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        String dumpUid = task.getDetails() != null ? task.getDetails().getDumpUid() : null;
+
+        runContext.metric(Timer.of("duration", duration));
+        logger.info("Dump {} created in {}", dumpUid, duration);
+
+        return Output.builder()
+            .taskUid(taskUid)
+            .dumpUid(dumpUid)
+            .duration(duration)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Task UID", description = "UID of the Meilisearch dump task.")
+        private final Integer taskUid;
+        @Schema(title = "Dump UID", description = "UID of the dump; the dump file is named `<dumpUid>.dump` in the server's dump directory.")
+        private final String dumpUid;
+        @Schema(title = "Duration", description = "Time between the dump request and its completion.")
+        private final Duration duration;
+    }
+}
@@ -3,15 +3,23 @@ package io.kestra.plugin.meilisearch;
 import java.io.*;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
 
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.FacetSearchRequest;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.model.FacetSearchable;
 
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 
@@ -20,6 +28,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -30,7 +41,9 @@ import io.kestra.core.models.annotations.PluginProperty;
 @Schema(
     title = "Search facets in Meilisearch",
     description = """
-        Runs a facet [search](https://www.meilisearch.com/docs/reference/api/facet_search) on a Meilisearch index and writes the facet hits to an .ion file in Kestra storage. Facet attributes must be configured as [filterable](https://www.meilisearch.com/docs/learn/filtering_and_sorting/search_with_facet_filters#configure-facet-index-settings) in the index settings; filters default to none.
+        Runs a facet [search](https://www.meilisearch.com/docs/reference/api/facet_search) on a Meilisearch index and writes the facet search response to an .ion file in Kestra storage. Facet attributes must be configured as [filterable](https://www.meilisearch.com/docs/learn/filtering_and_sorting/search_with_facet_filters#configure-facet-index-settings) in the index settings; filters default to none.
+
+        Meilisearch returns at most `faceting.maxValuesPerFacet` values per request (100 by default). Enable `exhaustive` to enumerate the values of a high-cardinality facet: the cap is read from the index settings, the value space is split into `facetQuery` prefixes, queried in parallel, and only the prefixes that hit the cap are split further. Prefixes are extended with the letters `a-z`, the digits `0-9` and the characters seen in the capped results, so a value whose next character is outside that set (CJK, punctuation, ...) and which does not appear among the most frequent values of its prefix can still be missed; a warning is logged when such a split happens.
         """
 )
 @Plugin(
@@ -65,10 +78,41 @@ import io.kestra.core.models.annotations.PluginProperty;
                         from: "{{ outputs.facet_search_documents.uri }}"
                     """
             }
+        ),
+        @io.kestra.core.models.annotations.Example(
+            title = "Enumerate the values of a high-cardinality facet",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_facet_inventory_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: all_brands
+                        type: io.kestra.plugin.meilisearch.FacetSearch
+                        index: products
+                        facetName: brand
+                        exhaustive: true
+                        concurrency: 8
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "coalescedRequests",
+            description = "The number of HTTP calls saved by sharing the result of an identical in-flight request, when `coalesceRequests` is enabled",
+            type = Counter.TYPE
         )
     }
 )
-public class FacetSearch extends AbstractMeilisearchConnection implements RunnableTask<FacetSearch.Output> {
+public class FacetSearch extends AbstractMeilisearchConnection implements RunnableTask<FacetSearch.Output>, MeilisearchCoalescingInterface {
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int MAX_PREFIX_LENGTH = 16;
+    private static final String PARTITION_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int DEFAULT_IDS_CHUNK_SIZE = 500;
 
     @Schema(title = "Index", description = "Name of the Meilisearch index to search.")
     @NotNull
@@ -89,37 +133,289 @@ public class FacetSearch extends AbstractMeilisearchConnection implements Runnab
     @PluginProperty(group = "processing")
     private Property<List<String>> filters = Property.ofValue(new ArrayList<>());
 
+    @Schema(
+        title = "Fetch type",
+        description = """
+            How the facet hits are returned:
+            - `STORE` (default) writes the facet search response, with its `facetHits`, `facetQuery` and `processingTimeMs`, as a single row of an .ion file in Kestra storage and returns its `uri`. With `exhaustive` or `idsFrom`, the file holds one `{value, count}` row per facet value instead.
+            - `FETCH` returns the facet hits as `{value, count}` `rows` in the task output.
+            - `FETCH_ONE` returns the first facet hit as `row`.
+            - `NONE` only returns `totalHits`.
+            `FETCH` and `FETCH_ONE` skip the storage round trip and suit small results."""
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
+
+    @Schema(
+        title = "Exhaustive",
+        description = "Enumerate the values of the facet beyond the index `faceting.maxValuesPerFacet` cap, by splitting the value space into prefixes of `a-z`, `0-9` and the characters seen in the results. The output then contains one `{value, count}` row per distinct facet value."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> exhaustive = Property.ofValue(false);
+
+    @Schema(
+        title = "IDs file",
+        description = "URI in Kestra storage of an .ion file of document IDs to restrict the facet search to. Each row is either an ID or a map holding the ID under `idAttribute`. The IDs are split into `idAttribute IN [...]` filters of at most `idsChunkSize` IDs, combined with `filters`, searched concurrently, and the facet counts of the chunks are summed. A chunk returning as many values as the index `faceting.maxValuesPerFacet` cap is enumerated by prefix, as in exhaustive mode, so that its counts are not truncated. Not supported together with `exhaustive`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> idsFrom;
+
+    @Schema(title = "ID attribute", description = "Filterable attribute matched against the IDs of `idsFrom`.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<String> idAttribute = Property.ofValue("id");
+
+    @Schema(title = "IDs chunk size", description = "Maximum number of IDs per filter when `idsFrom` is set.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> idsChunkSize = Property.ofValue(DEFAULT_IDS_CHUNK_SIZE);
+
+    @Schema(title = "Concurrency", description = "Maximum number of prefix partitions, in exhaustive mode, or ID chunks, when `idsFrom` is set, queried in parallel.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(DEFAULT_CONCURRENCY);
+
+    @Builder.Default
+    private Property<Boolean> coalesceRequests = Property.ofValue(false);
+
     @Override
     public FacetSearch.Output run(RunContext runContext) throws Exception {
         Client client = this.createClient(runContext);
-        Index searchIndex = client.index(runContext.render(this.index).as(String.class).orElseThrow());
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+        Index searchIndex = client.index(renderedIndex);
 
-        FacetSearchRequest fsr = FacetSearchRequest.builder()
-            .facetName(runContext.render(this.facetName).as(String.class).orElseThrow())
-            .facetQuery(runContext.render(this.facetQuery).as(String.class).orElse(null))
-            .filter(runContext.render(this.filters).asList(String.class).toArray(new String[] {}))
-            .build();
+        var renderedFacetName = runContext.render(this.facetName).as(String.class).orElseThrow();
+        var renderedFacetQuery = runContext.render(this.facetQuery).as(String.class).orElse(null);
+        var renderedFilters = runContext.render(this.filters).asList(String.class).toArray(new String[] {});
+        var renderedFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.STORE);
+        var renderedIdsFrom = runContext.render(this.idsFrom).as(String.class);
 
-        var result = searchIndex.facetSearch(fsr);
+        if (runContext.render(this.exhaustive).as(Boolean.class).orElse(false)) {
+            if (renderedIdsFrom.isPresent()) {
+                throw new IllegalArgumentException("'idsFrom' is not supported in exhaustive mode");
+            }
+            return this.runExhaustive(runContext, searchIndex, renderedFacetName, renderedFacetQuery, renderedFilters, renderedFetchType);
+        }
+
+        List<Map<String, Object>> hits;
+        Flux<?> stored;
+        if (renderedIdsFrom.isPresent()) {
+            hits = this.facetSearchByIds(runContext, searchIndex, renderedFacetName, renderedFacetQuery, renderedFilters, URI.create(renderedIdsFrom.get()));
+            stored = Flux.fromIterable(hits);
+        } else {
+            FacetSearchRequest fsr = FacetSearchRequest.builder()
+                .facetName(renderedFacetName)
+                .facetQuery(renderedFacetQuery)
+                .filter(renderedFilters)
+                .build();
+
+            FacetSearchable facetSearchable = this.coalesce(
+                runContext,
+                this.coalesceRequests,
+                () -> searchIndex.facetSearch(fsr),
+                "facetSearch", renderedIndex, renderedFacetName, renderedFacetQuery, renderedFilters
+            );
+            hits = new ArrayList<>(facetSearchable.getFacetHits());
+            // the stored file keeps the whole facet search response, as before fetchType existed
+            stored = Flux.just(facetSearchable);
+        }
+
+        FacetSearch.Output.OutputBuilder output = FacetSearch.Output.builder()
+            .totalHits((long) hits.size());
+
+        switch (renderedFetchType) {
+            case FETCH_ONE -> output.row(hits.isEmpty() ? null : hits.getFirst());
+            case FETCH -> output.rows(hits);
+            case STORE -> {
+                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                try (var writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+                    FileSerde.writeAll(writer, stored).blockOptional();
+                }
+                output.uri(runContext.storage().putFile(tempFile));
+            }
+            case NONE -> {
+            }
+        }
+
+        return output.build();
+    }
+
+    private List<Map<String, Object>> facetSearchByIds(RunContext runContext, Index searchIndex, String facetName, String facetQuery, String[] filters, URI idsUri) throws Exception {
+        Logger logger = runContext.logger();
+        var renderedIdAttribute = runContext.render(this.idAttribute).as(String.class).orElse("id");
+        var renderedChunkSize = runContext.render(this.idsChunkSize).as(Integer.class).orElse(DEFAULT_IDS_CHUNK_SIZE);
+        var renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+        int cap = searchIndex.getFacetingSettings().getMaxValuesPerFacet();
+
+        List<String> idFilters = IdFilters.chunk(runContext, idsUri, renderedIdAttribute, renderedChunkSize);
+
+        Scheduler scheduler = Schedulers.newBoundedElastic(renderedConcurrency, Integer.MAX_VALUE, "meilisearch-facet-search");
+        AtomicBoolean split = new AtomicBoolean();
+        Map<Object, Double> counts;
+        try {
+            // chunks select disjoint documents, so the counts of a value can be summed as long as no chunk is truncated
+            counts = Flux.fromIterable(idFilters)
+                .flatMap(
+                    idFilter -> {
+                        String[] chunkFilters = Arrays.copyOf(filters, filters.length + 1);
+                        chunkFilters[filters.length] = idFilter;
+                        return Mono.fromCallable(() -> {
+                                List<Map<String, Object>> chunkHits = new ArrayList<>(searchIndex.facetSearch(FacetSearchRequest.builder()
+                                    .facetName(facetName)
+                                    .facetQuery(facetQuery)
+                                    .filter(chunkFilters)
+                                    .build()).getFacetHits());
+                                return chunkHits;
+                            })
+                            .subscribeOn(scheduler)
+                            .flatMapMany(chunkHits -> {
+                                if (chunkHits.size() < cap) {
+                                    return Flux.fromIterable(chunkHits);
+                                }
 
-        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-        try (var output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
-            Flux<FacetSearchable> hitFlux = Flux.just(result);
-            FileSerde.writeAll(output, hitFlux).blockOptional();
+                                // a chunk at the cap may miss values or undercount them: enumerate it by prefix instead
+                                logger.debug("Facet search of an ID chunk returned {} values, enumerating it by prefix", chunkHits.size());
+                                Set<Object> seen = ConcurrentHashMap.newKeySet();
+                                return this.partition(logger, searchIndex, facetName, facetQuery == null ? "" : facetQuery, chunkFilters, cap, scheduler, split)
+                                    .filter(hit -> seen.add(hit.get("value")));
+                            });
+                    },
+                    renderedConcurrency
+                )
+                .collect(
+                    () -> new LinkedHashMap<Object, Double>(),
+                    (map, hit) -> map.merge(hit.get("value"), hit.get("count") instanceof Number count ? count.doubleValue() : 0.0, Double::sum)
+                )
+                .blockOptional()
+                .orElse(new LinkedHashMap<>());
+        } finally {
+            scheduler.dispose();
+        }
+
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<Object, Double>comparingByValue().reversed())
+            .map(entry -> {
+                Map<String, Object> hit = new LinkedHashMap<>();
+                hit.put("value", entry.getKey());
+                hit.put("count", entry.getValue());
+                return hit;
+            })
+            .collect(Collectors.toList());
+    }
+
+    private FacetSearch.Output runExhaustive(RunContext runContext, Index searchIndex, String facetName, String facetQuery, String[] filters, FetchType fetchType) throws Exception {
+        Logger logger = runContext.logger();
+        // the split threshold must be the server cap: with a lower index setting, no partition would ever look full
+        int cap = searchIndex.getFacetingSettings().getMaxValuesPerFacet();
+        int renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+
+        // blocking SDK calls run on a bounded pool, which caps the number of in-flight partitions whatever the recursion depth
+        Scheduler scheduler = Schedulers.newBoundedElastic(renderedConcurrency, Integer.MAX_VALUE, "meilisearch-facet-search");
+        Set<Object> seen = ConcurrentHashMap.newKeySet();
+        AtomicBoolean split = new AtomicBoolean();
+
+        try {
+            Flux<Map<String, Object>> hitFlux = this.partition(logger, searchIndex, facetName, facetQuery == null ? "" : facetQuery, filters, cap, scheduler, split)
+                .filter(hit -> seen.add(hit.get("value")))
+                .map(hit -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("value", hit.get("value"));
+                    row.put("count", hit.get("count"));
+                    return row;
+                });
+
+            FacetSearch.Output.OutputBuilder output = FacetSearch.Output.builder();
+            long count = switch (fetchType) {
+                case STORE -> {
+                    File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                    long written;
+                    try (var writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+                        written = FileSerde.writeAll(writer, hitFlux).blockOptional().orElse(0L);
+                    }
+                    output.uri(runContext.storage().putFile(tempFile));
+                    yield written;
+                }
+                case NONE -> hitFlux.count().blockOptional().orElse(0L);
+                default -> {
+                    List<Map<String, Object>> rows = hitFlux.collectList().blockOptional().orElse(List.of());
+                    if (fetchType == FetchType.FETCH_ONE) {
+                        output.row(rows.isEmpty() ? null : rows.getFirst());
+                    } else {
+                        output.rows(rows);
+                    }
+                    yield rows.size();
+                }
+            };
+
+            logger.info("Enumerated {} values of facet {}", count, facetName);
 
-            return FacetSearch.Output.builder()
-                .uri(runContext.storage().putFile(tempFile))
-                .totalHits((long) result.getFacetHits().size())
+            return output
+                .totalHits(count)
                 .build();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    private Flux<Map<String, Object>> partition(Logger logger, Index searchIndex, String facetName, String prefix, String[] filters, int cap, Scheduler scheduler, AtomicBoolean split) {
+        return Mono.fromCallable(() -> searchIndex.facetSearch(FacetSearchRequest.builder()
+                .facetName(facetName)
+                .facetQuery(prefix.isEmpty() ? null : prefix)
+                .filter(filters)
+                .build()))
+            .subscribeOn(scheduler)
+            .flatMapMany(result -> {
+                List<Map<String, Object>> hits = new ArrayList<>(result.getFacetHits());
+                Flux<Map<String, Object>> current = Flux.fromIterable(hits);
+                if (hits.size() < cap) {
+                    return current;
+                }
+                if (prefix.length() >= MAX_PREFIX_LENGTH) {
+                    logger.warn("Facet prefix '{}' still returns {} values at maximum prefix length, some values may be missing", prefix, hits.size());
+                    return current;
+                }
+                if (split.compareAndSet(false, true)) {
+                    logger.warn(
+                        "Facet {} has more than {} values and is split by prefix; values whose next character is neither in [a-z0-9] nor among the characters seen in the capped results may be missing",
+                        facetName,
+                        cap
+                    );
+                }
+
+                return current.concatWith(
+                    Flux.fromIterable(childPrefixes(prefix, hits))
+                        .flatMap(child -> this.partition(logger, searchIndex, facetName, child, filters, cap, scheduler, split))
+                );
+            });
+    }
+
+    private static Set<String> childPrefixes(String prefix, List<Map<String, Object>> hits) {
+        Set<String> children = new LinkedHashSet<>();
+        // characters seen at the next position cover values outside the default alphabet (accents, punctuation, ...)
+        for (Map<String, Object> hit : hits) {
+            String value = String.valueOf(hit.get("value")).toLowerCase(Locale.ROOT);
+            if (value.length() > prefix.length() && value.startsWith(prefix.toLowerCase(Locale.ROOT))) {
+                children.add(prefix + value.charAt(prefix.length()));
+            }
+        }
+        for (char c : PARTITION_ALPHABET.toCharArray()) {
+            children.add(prefix + c);
         }
+        return children;
     }
 
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
-        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file with facet search results.")
+        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file with the facet search response, or with one `{value, count}` row per facet value in exhaustive and `idsFrom` modes, when `fetchType` is `STORE`.")
         private final URI uri;
-        @Schema(title = "Total hits", description = "Number of facet hits returned by the request.")
+        @Schema(title = "Row", description = "First facet hit, when `fetchType` is `FETCH_ONE`.")
+        private final Map<String, Object> row;
+        @Schema(title = "Rows", description = "Facet hits, when `fetchType` is `FETCH`.")
+        private final List<Map<String, Object>> rows;
+        @Schema(title = "Total hits", description = "Number of facet hits returned by the request, or the number of distinct facet values in exhaustive mode.")
         private final Long totalHits;
     }
 }
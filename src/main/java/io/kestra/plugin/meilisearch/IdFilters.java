@@ -0,0 +1,60 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+/**
+ * Turns a storage file of document IDs into bounded-size {@code attribute IN [...]} filters, so that large ID lists
+ * are sent as several small requests instead of one filter string the server parses slowly or rejects.
+ */
+final class IdFilters {
+    private IdFilters() {
+    }
+
+    /**
+     * Reads the IDs of an .ion file, where each row is either an ID or a map holding the ID under {@code attribute},
+     * and returns one deduplicated filter per chunk of at most {@code chunkSize} IDs.
+     */
+    static List<String> chunk(RunContext runContext, URI uri, String attribute, int chunkSize) throws Exception {
+        Set<Object> ids = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri)), FileSerde.BUFFER_SIZE)) {
+            FileSerde.reader(reader, row -> {
+                Object id = row instanceof Map<?, ?> map ? map.get(attribute) : row;
+                if (id != null) {
+                    ids.add(id);
+                }
+            });
+        }
+
+        List<String> filters = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>(chunkSize);
+        for (Object id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                filters.add(filter(attribute, chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            filters.add(filter(attribute, chunk));
+        }
+
+        return filters;
+    }
+
+    private static String filter(String attribute, List<Object> ids) {
+        return ids.stream()
+            .map(id -> id instanceof Number ? id.toString() : "\"" + id.toString().replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+            .collect(Collectors.joining(", ", attribute + " IN [", "]"));
+    }
+}
@@ -0,0 +1,150 @@
+package io.kestra.plugin.meilisearch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Get Meilisearch index stats",
+    description = "Reads the instance [stats](https://www.meilisearch.com/docs/reference/api/stats) and the stats of one index, and publishes them as metrics and outputs. Use the outputs to gate bulk `DocumentAdd` runs on index size or indexing status. Meilisearch does not report a maximum document size, only the average one."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Skip ingestion while the index is still indexing",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_stats_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: stats
+                        type: io.kestra.plugin.meilisearch.IndexStats
+                        index: movies
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+
+                      - id: ingest
+                        type: io.kestra.plugin.core.flow.If
+                        condition: "{{ outputs.stats.isIndexing == false }}"
+                        then:
+                          - id: add
+                            type: io.kestra.plugin.meilisearch.DocumentAdd
+                            index: movies
+                            url: http://172.18.0.3:7700/
+                            key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                            from: "{{ inputs.file }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(name = "numberOfDocuments", description = "The number of documents in the index", type = Counter.TYPE),
+        @Metric(name = "databaseSize", description = "The size of the Meilisearch database, in bytes", type = Counter.TYPE),
+        @Metric(name = "usedDatabaseSize", description = "The size of the Meilisearch database actually used, in bytes", type = Counter.TYPE),
+        @Metric(name = "rawDocumentDbSize", description = "The size of the documents stored in the index, in bytes", type = Counter.TYPE),
+        @Metric(name = "avgDocumentSize", description = "The average size of a document in the index, in bytes", type = Counter.TYPE),
+        @Metric(name = "isIndexing", description = "1 if the index is currently indexing, 0 otherwise", type = Counter.TYPE),
+        @Metric(name = "fieldDistribution", description = "The number of documents containing each field, tagged by field", type = Counter.TYPE)
+    }
+)
+public class IndexStats extends AbstractMeilisearchConnection implements RunnableTask<IndexStats.Output> {
+    @NotNull
+    @Schema(title = "Index", description = "Name of the Meilisearch index to read the stats of.")
+    @PluginProperty(group = "main")
+    private Property<String> index;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        MeilisearchApi api = this.createApi(runContext);
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+
+        Map<String, Object> globalStats = api.get("/stats");
+        Map<String, Object> indexStats = api.get("/indexes/" + renderedIndex + "/stats");
+
+        long numberOfDocuments = asLong(indexStats.get("numberOfDocuments"));
+        long databaseSize = asLong(globalStats.get("databaseSize"));
+        long usedDatabaseSize = asLong(globalStats.get("usedDatabaseSize"));
+        long rawDocumentDbSize = asLong(indexStats.get("rawDocumentDbSize"));
+        long avgDocumentSize = asLong(indexStats.get("avgDocumentSize"));
+        boolean isIndexing = Boolean.TRUE.equals(indexStats.get("isIndexing"));
+
+        Map<String, Long> fieldDistribution = new LinkedHashMap<>();
+        if (indexStats.get("fieldDistribution") instanceof Map<?, ?> distribution) {
+            distribution.forEach((field, count) -> fieldDistribution.put(String.valueOf(field), asLong(count)));
+        }
+
+        runContext.metric(Counter.of("numberOfDocuments", numberOfDocuments, "index", renderedIndex));
+        runContext.metric(Counter.of("databaseSize", databaseSize));
+        runContext.metric(Counter.of("usedDatabaseSize", usedDatabaseSize));
+        runContext.metric(Counter.of("rawDocumentDbSize", rawDocumentDbSize, "index", renderedIndex));
+        runContext.metric(Counter.of("avgDocumentSize", avgDocumentSize, "index", renderedIndex));
+        runContext.metric(Counter.of("isIndexing", isIndexing ? 1 : 0, "index", renderedIndex));
+        fieldDistribution.forEach((field, count) ->
+            runContext.metric(Counter.of("fieldDistribution", count, "index", renderedIndex, "field", field))
+        );
+
+        logger.info("Index {} contains {} documents ({} bytes), indexing: {}", renderedIndex, numberOfDocuments, rawDocumentDbSize, isIndexing);
+
+        return Output.builder()
+            .numberOfDocuments(numberOfDocuments)
+            .databaseSize(databaseSize)
+            .usedDatabaseSize(usedDatabaseSize)
+            .rawDocumentDbSize(rawDocumentDbSize)
+            .avgDocumentSize(avgDocumentSize)
+            .isIndexing(isIndexing)
+            .fieldDistribution(fieldDistribution)
+            .build();
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Number of documents", description = "Number of documents in the index.")
+        private final Long numberOfDocuments;
+        @Schema(title = "Database size", description = "Size of the whole Meilisearch database, in bytes.")
+        private final Long databaseSize;
+        @Schema(title = "Used database size", description = "Size of the Meilisearch database actually used, in bytes; the difference with `databaseSize` is reclaimable space.")
+        private final Long usedDatabaseSize;
+        @Schema(title = "Raw document size", description = "Size of the documents stored in the index, in bytes.")
+        private final Long rawDocumentDbSize;
+        @Schema(title = "Average document size", description = "Average size of a document in the index, in bytes.")
+        private final Long avgDocumentSize;
+        @Schema(title = "Is indexing", description = "Whether the index is currently processing an indexing task.")
+        private final Boolean isIndexing;
+        @Schema(title = "Field distribution", description = "Number of documents containing each field of the index.")
+        private final Map<String, Long> fieldDistribution;
+    }
+}
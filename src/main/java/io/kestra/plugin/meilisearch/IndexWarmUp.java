@@ -0,0 +1,262 @@
+package io.kestra.plugin.meilisearch;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.SearchRequest;
+import com.meilisearch.sdk.model.Searchable;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TasksQuery;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Warm up a Meilisearch index",
+    description = """
+        Waits for the tasks enqueued or processing on the index, such as the batches of a preceding `DocumentAdd`, to finish, then replays representative queries in rounds until the 90th percentile latency of a round drops below `targetLatency`, so that the database pages are loaded in memory before users search. Run it right after a large `DocumentAdd` or a reindex.
+
+        Queries come from the `from` file, where each row is either a query string or a map with a `q` key and an optional `filter` key. Without `from`, the task filters on the `facetValues` most frequent values of each facet of the index."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Warm up an index after a bulk ingestion",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_warm_up_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: add
+                        type: io.kestra.plugin.meilisearch.DocumentAdd
+                        index: movies
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                        from: "{{ inputs.file }}"
+
+                      - id: warm_up
+                        type: io.kestra.plugin.meilisearch.IndexWarmUp
+                        index: movies
+                        targetLatency: PT0.02S
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(name = "duration", description = "The time spent warming up the index, indexing wait excluded", type = Timer.TYPE),
+        @Metric(name = "latency.before", description = "The 90th percentile latency of the first round", type = Timer.TYPE),
+        @Metric(name = "latency.after", description = "The 90th percentile latency of the last round", type = Timer.TYPE),
+        @Metric(name = "rounds", description = "The number of query rounds replayed", type = Counter.TYPE)
+    }
+)
+public class IndexWarmUp extends AbstractMeilisearchConnection implements RunnableTask<IndexWarmUp.Output> {
+    private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(50);
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(5);
+    private static final int DEFAULT_FACET_VALUES = 10;
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_ROUNDS = 10;
+
+    @NotNull
+    @Schema(title = "Index", description = "Name of the Meilisearch index to warm up.")
+    @PluginProperty(group = "main")
+    private Property<String> index;
+
+    @Schema(title = "Queries", description = "URI in Kestra storage of an .ion file with the queries to replay; the top facet values of the index are used when not set.")
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @Schema(title = "Facet values", description = "Number of most frequent values of each facet turned into queries when `from` is not set.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> facetValues = Property.ofValue(DEFAULT_FACET_VALUES);
+
+    @Schema(title = "Target latency", description = "The warm-up stops once the 90th percentile latency of a round is below this value.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Duration> targetLatency = Property.ofValue(DEFAULT_TARGET_LATENCY);
+
+    @Schema(title = "Maximum rounds", description = "Maximum number of times the queries are replayed.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxRounds = Property.ofValue(DEFAULT_MAX_ROUNDS);
+
+    @Schema(title = "Concurrency", description = "Number of virtual threads replaying queries.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(DEFAULT_CONCURRENCY);
+
+    @Schema(title = "Wait timeout", description = "Maximum time to wait for the tasks enqueued on the index to finish before warming it up.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> waitTimeout = Property.ofValue(DEFAULT_WAIT_TIMEOUT);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Client client = this.createClient(runContext);
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+        Index searchIndex = client.index(renderedIndex);
+        var renderedTarget = runContext.render(this.targetLatency).as(Duration.class).orElse(DEFAULT_TARGET_LATENCY);
+        var renderedMaxRounds = Math.max(1, runContext.render(this.maxRounds).as(Integer.class).orElse(DEFAULT_MAX_ROUNDS));
+        var renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+
+        waitForIndexing(client, renderedIndex, runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT));
+
+        var renderedFrom = runContext.render(this.from).as(String.class);
+        List<SearchRequest> queries = renderedFrom.isPresent()
+            ? SearchQueries.read(runContext, URI.create(renderedFrom.get()))
+            : facetQueries(searchIndex, runContext.render(this.facetValues).as(Integer.class).orElse(DEFAULT_FACET_VALUES));
+        if (queries.isEmpty()) {
+            logger.warn("No queries to warm up index {} with", renderedIndex);
+            return Output.builder().rounds(0).stabilized(false).build();
+        }
+
+        long start = System.nanoTime();
+        Duration before = null;
+        Duration after = null;
+        int rounds = 0;
+        while (rounds < renderedMaxRounds) {
+            after = runRound(searchIndex, queries, renderedConcurrency);
+            rounds++;
+            if (before == null) {
+                before = after;
+            }
+            logger.debug("Warm-up round {} of index {}: p90 {}", rounds, renderedIndex, after);
+
+            if (after.compareTo(renderedTarget) <= 0) {
+                break;
+            }
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        boolean stabilized = after.compareTo(renderedTarget) <= 0;
+
+        runContext.metric(Timer.of("duration", duration));
+        runContext.metric(Timer.of("latency.before", before));
+        runContext.metric(Timer.of("latency.after", after));
+        runContext.metric(Counter.of("rounds", rounds));
+
+        if (stabilized) {
+            logger.info("Index {} warmed up in {} ({} rounds of {} queries), p90 went from {} to {}", renderedIndex, duration, rounds, queries.size(), before, after);
+        } else {
+            logger.warn("Index {} p90 latency is still {} after {} rounds, above the {} target", renderedIndex, after, rounds, renderedTarget);
+        }
+
+        return Output.builder()
+            .rounds(rounds)
+            .duration(duration)
+            .latencyBefore(before)
+            .latencyAfter(after)
+            .stabilized(stabilized)
+            .build();
+    }
+
+    private static void waitForIndexing(Client client, String index, Duration timeout) throws Exception {
+        Task[] pending = client.getTasks(new TasksQuery()
+            .setIndexUids(new String[] { index })
+            .setStatuses(new String[] { "enqueued", "processing" })
+        ).getResults();
+
+        // tasks are listed newest first and processed in enqueue order, so the newest one finishes last
+        if (pending != null && pending.length > 0) {
+            MeilisearchTasks.await(client, pending[0].getUid(), timeout);
+        }
+    }
+
+    private static List<SearchRequest> facetQueries(Index searchIndex, int valuesPerFacet) {
+        Searchable result = searchIndex.search(SearchRequest.builder()
+            .q("")
+            .facets(new String[] { "*" })
+            .limit(0)
+            .build());
+
+        List<SearchRequest> queries = new ArrayList<>();
+        queries.add(SearchRequest.builder().q("").build());
+        if (result.getFacetDistribution() instanceof Map<?, ?> distribution) {
+            distribution.forEach((facet, values) -> {
+                if (values instanceof Map<?, ?> counts) {
+                    counts.entrySet().stream()
+                        .sorted(Comparator.comparingLong((Map.Entry<?, ?> entry) -> entry.getValue() instanceof Number count ? count.longValue() : 0L).reversed())
+                        .limit(valuesPerFacet)
+                        .forEach(entry -> queries.add(SearchRequest.builder()
+                            .q("")
+                            .filter(new String[] { facet + " = \"" + entry.getKey().toString().replace("\\", "\\\\").replace("\"", "\\\"") + "\"" })
+                            .build()));
+                }
+            });
+        }
+
+        return queries;
+    }
+
+    private static Duration runRound(Index searchIndex, List<SearchRequest> queries, int concurrency) throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicInteger next = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    int n;
+                    while ((n = next.getAndIncrement()) < queries.size()) {
+                        long start = System.nanoTime();
+                        searchIndex.search(queries.get(n));
+                        histogram.record(Duration.ofNanos(System.nanoTime() - start));
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        return histogram.percentile(90);
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Rounds", description = "Number of times the queries were replayed.")
+        private final Integer rounds;
+        @Schema(title = "Duration", description = "Time spent replaying queries, indexing wait excluded.")
+        private final Duration duration;
+        @Schema(title = "Latency before", description = "90th percentile latency of the first round.")
+        private final Duration latencyBefore;
+        @Schema(title = "Latency after", description = "90th percentile latency of the last round.")
+        private final Duration latencyAfter;
+        @Schema(title = "Stabilized", description = "Whether the latency dropped below `targetLatency` within `maxRounds`.")
+        private final Boolean stabilized;
+    }
+}
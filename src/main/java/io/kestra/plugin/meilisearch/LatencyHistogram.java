@@ -0,0 +1,72 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency recorder with log-linear buckets, in the spirit of HdrHistogram: values below 128µs are exact,
+ * larger values are kept with 64 sub-buckets per power of two, i.e. less than 1.6% relative error.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    void record(Duration latency) {
+        long micros = Math.max(0, latency.toNanos() / 1_000);
+        this.counts.incrementAndGet(index(micros));
+        this.totalCount.increment();
+        this.maxValue.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+        return this.totalCount.sum();
+    }
+
+    Duration max() {
+        return Duration.ofNanos(this.maxValue.get() * 1_000);
+    }
+
+    Duration percentile(double percentile) {
+        long total = this.count();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target) {
+                return Duration.ofNanos(Math.min(highestEquivalentValue(i), this.maxValue.get()) * 1_000);
+            }
+        }
+
+        return this.max();
+    }
+
+    private static int index(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal JSON client for the Meilisearch routes that the Java SDK does not expose, or exposes without all the
+ * response fields. It shares the connection settings of {@link AbstractMeilisearchConnection}; all instances send
+ * through one pooled HTTP client, so creating an instance per task run costs nothing to release.
+ */
+class MeilisearchApi {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+    private final String url;
+    private final String key;
+
+    MeilisearchApi(String url, String key) {
+        this.url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.key = key;
+    }
+
+    Map<String, Object> get(String path) throws IOException, InterruptedException {
+        return this.send("GET", path, HttpRequest.BodyPublishers.noBody());
+    }
+
+    Map<String, Object> post(String path, Object body) throws IOException, InterruptedException {
+        return this.send("POST", path, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+    }
+
+    private Map<String, Object> send(String method, String path, HttpRequest.BodyPublisher body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(this.url + path))
+            .header("Authorization", "Bearer " + this.key)
+            .header("Content-Type", "application/json")
+            .method(method, body)
+            .build();
+
+        HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IOException(String.format(
+                "Meilisearch request %s %s failed with status %d: %s",
+                method,
+                path,
+                response.statusCode(),
+                response.body()
+            ));
+        }
+
+        return response.body() == null || response.body().isBlank() ? Map.of() : MAPPER.readValue(response.body(), MAP_TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package io.kestra.plugin.meilisearch;
+
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.kestra.core.models.annotations.PluginProperty;
+
+public interface MeilisearchCoalescingInterface {
+    @Schema(
+        title = "Coalesce identical requests",
+        description = "When enabled, executions running concurrently on the same worker that send the exact same request (same URL, key, index and parameters) share a single HTTP call and its result. Nothing is cached: a request arriving after the shared call completed sends its own call."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Boolean> getCoalesceRequests();
+}
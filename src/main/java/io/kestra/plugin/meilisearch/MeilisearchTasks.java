@@ -0,0 +1,108 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.CancelTasksQuery;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskError;
+import com.meilisearch.sdk.model.TaskStatus;
+
+/**
+ * Helpers to wait for asynchronous Meilisearch tasks and report their failures consistently across the plugin tasks.
+ */
+final class MeilisearchTasks {
+    private static final Duration MIN_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(2);
+
+    private MeilisearchTasks() {
+    }
+
+    /**
+     * Polls a task until it is finished, starting with a short interval and doubling it up to a few seconds, so that
+     * quick tasks return fast while long ones (dumps, snapshots) do not hammer the server.
+     */
+    static Task await(Client client, int taskUid, Duration timeout) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Duration interval = MIN_POLL_INTERVAL;
+
+        while (true) {
+            Task task = client.getTask(taskUid);
+            if (isFinished(task.getStatus())) {
+                return task;
+            }
+
+            if (System.nanoTime() + interval.toNanos() > deadline) {
+                throw new TimeoutException(String.format("Meilisearch task %d did not finish within %s, last status was %s", taskUid, timeout, task.getStatus()));
+            }
+
+            Thread.sleep(interval);
+            interval = interval.multipliedBy(2).compareTo(MAX_POLL_INTERVAL) > 0 ? MAX_POLL_INTERVAL : interval.multipliedBy(2);
+        }
+    }
+
+    /**
+     * Throws if the task failed or was canceled; {@code subject} describes the task in the error message,
+     * e.g. "indexing task 12 on index 'movies'".
+     */
+    static void ensureSucceeded(Task task, String subject) {
+        if (TaskStatus.FAILED.equals(task.getStatus()) || TaskStatus.CANCELED.equals(task.getStatus())) {
+            TaskError error = task.getError();
+            throw new RuntimeException(String.format(
+                "Meilisearch %s ended with status %s%s",
+                subject,
+                task.getStatus(),
+                error != null ? ": " + error.getMessage() + " (" + error.getCode() + ")" : ""
+            ));
+        }
+    }
+
+    private static boolean isFinished(TaskStatus status) {
+        return TaskStatus.SUCCEEDED.equals(status) || TaskStatus.FAILED.equals(status) || TaskStatus.CANCELED.equals(status);
+    }
+
+    /**
+     * Tracks the Meilisearch tasks enqueued by a running Kestra task, so they can be canceled in bulk when the Kestra
+     * task is killed instead of being left to run on the server.
+     */
+    static final class Pending {
+        private final Client client;
+        private final Logger logger;
+        private final Set<Integer> taskUids = ConcurrentHashMap.newKeySet();
+
+        Pending(Client client, Logger logger) {
+            this.client = client;
+            this.logger = logger;
+        }
+
+        void add(int taskUid) {
+            this.taskUids.add(taskUid);
+        }
+
+        void remove(int taskUid) {
+            this.taskUids.remove(taskUid);
+        }
+
+        void cancelAll() {
+            if (this.taskUids.isEmpty()) {
+                return;
+            }
+
+            List<Integer> uids = List.copyOf(this.taskUids);
+            try {
+                this.client.cancelTasks(new CancelTasksQuery().setUids(uids.stream().mapToInt(Integer::intValue).toArray()));
+                this.logger.info("Canceled pending Meilisearch tasks {}", uids);
+                this.taskUids.removeAll(uids);
+            } catch (MeilisearchException e) {
+                this.logger.warn("Unable to cancel pending Meilisearch tasks {}: {}", uids, e.getMessage());
+            }
+        }
+    }
+}
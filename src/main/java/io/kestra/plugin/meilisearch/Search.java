@@ -3,14 +3,18 @@ package io.kestra.plugin.meilisearch;
 import java.io.*;
 import java.net.URI;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Index;
-import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.SearchRequest;
 
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 
@@ -18,6 +22,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -27,7 +33,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Search documents in Meilisearch",
-    description = "Runs a full-text search on a Meilisearch index and writes the hits to an .ion file in Kestra storage. Uses Meilisearch defaults for pagination and requires a URL and API key with search permission."
+    description = "Runs a full-text search on a Meilisearch index and writes the hits to an .ion file in Kestra storage, or returns them directly in the task output depending on `fetchType`. Uses Meilisearch defaults for pagination and requires a URL and API key with search permission."
 )
 @Plugin(
     examples = {
@@ -56,10 +62,68 @@ import io.kestra.core.models.annotations.PluginProperty;
                         from: "{{ outputs.search_documents.uri }}"
                     """
             }
+        ),
+        @io.kestra.core.models.annotations.Example(
+            title = "Look up a single document without going through Kestra storage",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_lookup_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: lookup
+                        type: io.kestra.plugin.meilisearch.Search
+                        index: movies
+                        query: "Lord of the Rings"
+                        fetchType: FETCH_ONE
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "{{ outputs.lookup.row.title }}"
+                    """
+            }
+        ),
+        @io.kestra.core.models.annotations.Example(
+            title = "Search within thousands of IDs produced by an upstream task",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_search_ids_flow
+                    namespace: company.team
+
+                    inputs:
+                      - id: ids
+                        type: FILE
+
+                    tasks:
+                      - id: search_documents
+                        type: io.kestra.plugin.meilisearch.Search
+                        index: products
+                        query: "running shoes"
+                        idsFrom: "{{ inputs.ids }}"
+                        idsChunkSize: 500
+                        limit: 50
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "coalescedRequests",
+            description = "The number of HTTP calls saved by sharing the result of an identical in-flight request, when `coalesceRequests` is enabled",
+            type = Counter.TYPE
         )
     }
 )
-public class Search extends AbstractMeilisearchConnection implements RunnableTask<Search.Output> {
+public class Search extends AbstractMeilisearchConnection implements RunnableTask<Search.Output>, MeilisearchCoalescingInterface {
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int DEFAULT_IDS_CHUNK_SIZE = 500;
+    private static final int DEFAULT_CONCURRENCY = 4;
 
     @Schema(title = "Search query", description = "Full-text query string sent to Meilisearch; templated before execution.")
     @PluginProperty(group = "main")
@@ -68,31 +132,138 @@ public class Search extends AbstractMeilisearchConnection implements RunnableTas
     @PluginProperty(group = "advanced")
     private Property<String> index;
 
+    @Schema(
+        title = "Fetch type",
+        description = """
+            How the search hits are returned:
+            - `STORE` (default) writes the hits to an .ion file in Kestra storage and returns its `uri`.
+            - `FETCH` returns the hits as `rows` in the task output.
+            - `FETCH_ONE` returns the first hit as `row`.
+            - `NONE` only returns `totalHits`.
+            `FETCH` and `FETCH_ONE` skip the storage round trip and suit small results."""
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
+
+    @Schema(title = "Limit", description = "Maximum number of hits returned; Meilisearch defaults to 20.")
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit;
+
+    @Schema(
+        title = "IDs file",
+        description = "URI in Kestra storage of an .ion file of document IDs to restrict the search to. Each row is either an ID or a map holding the ID under `idAttribute`. The IDs are split into `idAttribute IN [...]` filters of at most `idsChunkSize` IDs, searched concurrently, then deduplicated and re-ranked by ranking score; hits then include their `_rankingScore`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> idsFrom;
+
+    @Schema(title = "ID attribute", description = "Filterable attribute matched against the IDs of `idsFrom`.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<String> idAttribute = Property.ofValue("id");
+
+    @Schema(title = "IDs chunk size", description = "Maximum number of IDs per filter when `idsFrom` is set.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> idsChunkSize = Property.ofValue(DEFAULT_IDS_CHUNK_SIZE);
+
+    @Schema(title = "Concurrency", description = "Maximum number of chunked searches in flight when `idsFrom` is set.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(DEFAULT_CONCURRENCY);
+
+    @Builder.Default
+    private Property<Boolean> coalesceRequests = Property.ofValue(false);
+
     @Override
     public Search.Output run(RunContext runContext) throws Exception {
         Client client = this.createClient(runContext);
-        Index searchIndex = client.index(runContext.render(this.index).as(String.class).orElse(null));
-        SearchResult results = searchIndex.search(runContext.render(this.query).as(String.class).orElse(null));
-        List<HashMap<String, Object>> hits = results.getHits();
+        var renderedIndex = runContext.render(this.index).as(String.class).orElse(null);
+        Index searchIndex = client.index(renderedIndex);
+        var renderedQuery = runContext.render(this.query).as(String.class).orElse(null);
+        var renderedLimit = runContext.render(this.limit).as(Integer.class).orElse(null);
+        var renderedIdsFrom = runContext.render(this.idsFrom).as(String.class);
 
-        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        List<Map<String, Object>> hits;
+        if (renderedIdsFrom.isPresent()) {
+            hits = this.searchByIds(runContext, searchIndex, renderedQuery, renderedLimit == null ? DEFAULT_LIMIT : renderedLimit, URI.create(renderedIdsFrom.get()));
+        } else {
+            List<? extends Map<String, Object>> results = this.coalesce(
+                runContext,
+                this.coalesceRequests,
+                () -> renderedLimit != null
+                    ? searchIndex.search(SearchRequest.builder().q(renderedQuery).limit(renderedLimit).build()).getHits()
+                    : searchIndex.search(renderedQuery).getHits(),
+                "search", renderedIndex, renderedQuery, renderedLimit
+            );
+            hits = new ArrayList<>(results);
+        }
 
-        try (var output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
-            Flux<Map> hitFlux = Flux.fromIterable(hits);
-            Long count = FileSerde.writeAll(output, hitFlux).blockOptional().orElse(0L);
+        Output.OutputBuilder output = Output.builder()
+            .totalHits((long) hits.size());
 
-            return Output.builder()
-                .uri(runContext.storage().putFile(tempFile))
-                .totalHits(count)
-                .build();
+        switch (runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.STORE)) {
+            case FETCH_ONE -> output.row(hits.isEmpty() ? null : hits.getFirst());
+            case FETCH -> output.rows(hits);
+            case STORE -> {
+                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                try (var writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+                    Flux<Map> hitFlux = Flux.fromIterable(hits);
+                    FileSerde.writeAll(writer, hitFlux).blockOptional();
+                }
+                output.uri(runContext.storage().putFile(tempFile));
+            }
+            case NONE -> {
+            }
         }
+
+        return output.build();
+    }
+
+    private List<Map<String, Object>> searchByIds(RunContext runContext, Index searchIndex, String query, int limit, URI idsUri) throws Exception {
+        var renderedIdAttribute = runContext.render(this.idAttribute).as(String.class).orElse("id");
+        var renderedChunkSize = runContext.render(this.idsChunkSize).as(Integer.class).orElse(DEFAULT_IDS_CHUNK_SIZE);
+        var renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+
+        List<String> filters = IdFilters.chunk(runContext, idsUri, renderedIdAttribute, renderedChunkSize);
+        runContext.logger().debug("Searching {} ID chunks with a concurrency of {}", filters.size(), renderedConcurrency);
+
+        // IdFilters deduplicates the IDs, so chunks select disjoint documents and their hits can be concatenated as is
+        List<Map<String, Object>> merged = Flux.fromIterable(filters)
+            .flatMap(
+                filter -> Mono.fromCallable(() -> searchIndex.search(SearchRequest.builder()
+                        .q(query)
+                        .filter(new String[] { filter })
+                        .limit(limit)
+                        .showRankingScore(true)
+                        .build()).getHits())
+                    .subscribeOn(Schedulers.boundedElastic()),
+                renderedConcurrency
+            )
+            .<Map<String, Object>>flatMapIterable(chunkHits -> chunkHits)
+            .collectList()
+            .blockOptional()
+            .orElse(List.of());
+
+        return merged.stream()
+            .sorted(Comparator.<Map<String, Object>>comparingDouble(Search::rankingScore).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private static double rankingScore(Map<String, Object> hit) {
+        return hit.get("_rankingScore") instanceof Number score ? score.doubleValue() : 0.0;
     }
 
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
-        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file containing search hits.")
+        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file containing search hits, when `fetchType` is `STORE`.")
         private final URI uri;
+        @Schema(title = "Row", description = "First search hit, when `fetchType` is `FETCH_ONE`.")
+        private final Map<String, Object> row;
+        @Schema(title = "Rows", description = "Search hits, when `fetchType` is `FETCH`.")
+        private final List<Map<String, Object>> rows;
         @Schema(title = "Total hits", description = "Number of documents written from the search response.")
         private final Long totalHits;
     }
@@ -0,0 +1,246 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.SearchRequest;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Load test searches on a Meilisearch index",
+    description = """
+        Replays the queries of a Kestra storage file against a Meilisearch index for a fixed duration and reports the latency percentiles, throughput and errors as metrics and as a one-row .ion summary file.
+
+        Each row of the `from` file is either a query string or a map with a `q` key and an optional `filter` key. Queries are replayed in a loop by `concurrency` virtual threads. When `rate` is set, requests are paced to that global rate and latency is measured from the scheduled send time, so a saturated server shows up in the percentiles instead of silently lowering the rate. Only successful requests are recorded in the latency percentiles and the throughput, so fast error responses from an overloaded server do not make it look faster; failures are counted in `errors`.
+        """
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Measure p99 search latency at 200 queries per second",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_load_test_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: queries
+                        type: io.kestra.plugin.core.storage.Write
+                        extension: .ion
+                        content: |
+                          {"q":"lord of the rings"}
+                          {"q":"matrix","filter":"rating > 3"}
+
+                      - id: load_test
+                        type: io.kestra.plugin.meilisearch.SearchLoadTest
+                        index: movies
+                        from: "{{ outputs.queries.uri }}"
+                        duration: PT1M
+                        concurrency: 32
+                        rate: 200
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(name = "requests", description = "The number of search requests sent", type = Counter.TYPE),
+        @Metric(name = "errors", description = "The number of search requests that failed", type = Counter.TYPE),
+        @Metric(name = "latency.p50", description = "The median latency of successful search requests", type = Timer.TYPE),
+        @Metric(name = "latency.p90", description = "The 90th percentile latency of successful search requests", type = Timer.TYPE),
+        @Metric(name = "latency.p99", description = "The 99th percentile latency of successful search requests", type = Timer.TYPE),
+        @Metric(name = "latency.max", description = "The maximum latency of successful search requests", type = Timer.TYPE)
+    }
+)
+public class SearchLoadTest extends AbstractMeilisearchConnection implements RunnableTask<SearchLoadTest.Output> {
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(30);
+    private static final int DEFAULT_CONCURRENCY = 10;
+
+    @NotNull
+    @Schema(title = "Index", description = "Name of the Meilisearch index to search.")
+    @PluginProperty(group = "main")
+    private Property<String> index;
+
+    @NotNull
+    @Schema(title = "Queries", description = "URI in Kestra storage of the .ion file with the queries to replay.")
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @Schema(title = "Duration", description = "How long to send requests for.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Duration> duration = Property.ofValue(DEFAULT_DURATION);
+
+    @Schema(title = "Concurrency", description = "Number of virtual threads sending requests; with no `rate`, each thread sends its next request as soon as the previous one completes.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(DEFAULT_CONCURRENCY);
+
+    @Schema(title = "Rate", description = "Target number of requests per second across all threads; unlimited if not set.")
+    @PluginProperty(group = "processing")
+    private Property<Integer> rate;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Client client = this.createClient(runContext);
+        Index searchIndex = client.index(runContext.render(this.index).as(String.class).orElseThrow());
+        long durationNanos = runContext.render(this.duration).as(Duration.class).orElse(DEFAULT_DURATION).toNanos();
+        int renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+        Integer renderedRate = runContext.render(this.rate).as(Integer.class).orElse(null);
+        if (renderedConcurrency < 1) {
+            throw new IllegalArgumentException("'concurrency' must be at least 1, got " + renderedConcurrency);
+        }
+        if (renderedRate != null && renderedRate < 1) {
+            throw new IllegalArgumentException("'rate' must be at least 1 request per second, got " + renderedRate);
+        }
+
+        List<SearchRequest> queries = SearchQueries.read(runContext, URI.create(runContext.render(this.from).as(String.class).orElseThrow()));
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("The queries file is empty");
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongAdder sent = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicLong sequence = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + durationNanos;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < renderedConcurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    while (true) {
+                        long n = sequence.getAndIncrement();
+                        // with a target rate, request n is due at a fixed time; measuring from it avoids coordinated omission
+                        long scheduled = renderedRate == null ? System.nanoTime() : start + n * 1_000_000_000L / renderedRate;
+                        if (scheduled >= deadline) {
+                            return null;
+                        }
+
+                        long wait = scheduled - System.nanoTime();
+                        if (wait > 0) {
+                            Thread.sleep(Duration.ofNanos(wait));
+                        }
+
+                        sent.increment();
+                        try {
+                            searchIndex.search(queries.get((int) (n % queries.size())));
+                            histogram.record(Duration.ofNanos(System.nanoTime() - scheduled));
+                        } catch (Exception e) {
+                            if (errors.sum() == 0) {
+                                logger.warn("Search request failed: {}", e.getMessage());
+                            }
+                            errors.increment();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long requests = sent.sum();
+        double throughput = histogram.count() / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+
+        Output.OutputBuilder output = Output.builder()
+            .requests(requests)
+            .errors(errors.sum())
+            .throughput(throughput)
+            .p50(histogram.percentile(50))
+            .p90(histogram.percentile(90))
+            .p99(histogram.percentile(99))
+            .max(histogram.max());
+
+        runContext.metric(Counter.of("requests", requests));
+        runContext.metric(Counter.of("errors", errors.sum()));
+        runContext.metric(Timer.of("latency.p50", histogram.percentile(50)));
+        runContext.metric(Timer.of("latency.p90", histogram.percentile(90)));
+        runContext.metric(Timer.of("latency.p99", histogram.percentile(99)));
+        runContext.metric(Timer.of("latency.max", histogram.max()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("errors", errors.sum());
+        summary.put("durationMs", elapsed.toMillis());
+        summary.put("throughput", throughput);
+        summary.put("p50Ms", histogram.percentile(50).toNanos() / 1_000_000.0);
+        summary.put("p90Ms", histogram.percentile(90).toNanos() / 1_000_000.0);
+        summary.put("p99Ms", histogram.percentile(99).toNanos() / 1_000_000.0);
+        summary.put("maxMs", histogram.max().toNanos() / 1_000_000.0);
+
+        logger.info("Sent {} search requests in {} ({} req/s, {} errors), p50={} p99={} max={}",
+            requests, elapsed, String.format("%.1f", throughput), errors.sum(), histogram.percentile(50), histogram.percentile(99), histogram.max());
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (var writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+            FileSerde.writeAll(writer, Flux.just(summary)).blockOptional();
+        }
+
+        return output
+            .uri(runContext.storage().putFile(tempFile))
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file with the load test summary.")
+        private final URI uri;
+        @Schema(title = "Requests", description = "Number of search requests sent.")
+        private final Long requests;
+        @Schema(title = "Errors", description = "Number of search requests that failed.")
+        private final Long errors;
+        @Schema(title = "Throughput", description = "Achieved number of successful requests per second.")
+        private final Double throughput;
+        @Schema(title = "Median latency", description = "Of successful requests.")
+        private final Duration p50;
+        @Schema(title = "90th percentile latency", description = "Of successful requests.")
+        private final Duration p90;
+        @Schema(title = "99th percentile latency", description = "Of successful requests.")
+        private final Duration p99;
+        @Schema(title = "Maximum latency", description = "Of successful requests.")
+        private final Duration max;
+    }
+}
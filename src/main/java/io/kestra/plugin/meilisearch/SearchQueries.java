@@ -0,0 +1,44 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.meilisearch.sdk.SearchRequest;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+/**
+ * Reads the query files replayed by {@link SearchLoadTest} and {@link IndexWarmUp}.
+ */
+final class SearchQueries {
+    private SearchQueries() {
+    }
+
+    /**
+     * Reads an .ion file where each row is either a query string or a map with a {@code q} key and an optional
+     * {@code filter} key.
+     */
+    static List<SearchRequest> read(RunContext runContext, URI uri) throws Exception {
+        List<SearchRequest> queries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri)), FileSerde.BUFFER_SIZE)) {
+            FileSerde.reader(reader, row -> {
+                if (row instanceof Map<?, ?> map) {
+                    Object filter = map.get("filter");
+                    queries.add(SearchRequest.builder()
+                        .q(map.get("q") == null ? null : String.valueOf(map.get("q")))
+                        .filter(filter == null ? null : new String[] { String.valueOf(filter) })
+                        .build());
+                } else {
+                    queries.add(SearchRequest.builder().q(String.valueOf(row)).build());
+                }
+            });
+        }
+
+        return queries;
+    }
+}
@@ -0,0 +1,185 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.*;
+import java.net.URI;
+import java.util.*;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Find similar documents in Meilisearch",
+    description = """
+        Reads a file of document IDs and calls the [similar documents](https://www.meilisearch.com/docs/reference/api/similar) endpoint for each of them, with bounded concurrency over a single pooled HTTP client. One `{id, similarIds, scores}` row per input ID is streamed to an .ion file in Kestra storage, which suits precomputing "related items" for a whole catalog in one execution.
+
+        Each row of the `from` file is either a document ID or a document map containing the index primary key. The index must have an embedder configured."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Precompute related products",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_similar_flow
+                    namespace: company.team
+
+                    inputs:
+                      - id: ids
+                        type: FILE
+
+                    tasks:
+                      - id: similar
+                        type: io.kestra.plugin.meilisearch.SimilarDocuments
+                        index: products
+                        embedder: default
+                        from: "{{ inputs.ids }}"
+                        limit: 10
+                        concurrency: 16
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "documents",
+            description = "The number of documents for which similar documents were fetched",
+            type = Counter.TYPE
+        )
+    }
+)
+public class SimilarDocuments extends AbstractMeilisearchConnection implements RunnableTask<SimilarDocuments.Output> {
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int DEFAULT_CONCURRENCY = 8;
+
+    @NotNull
+    @Schema(title = "Index", description = "Name of the Meilisearch index to search.")
+    @PluginProperty(group = "main")
+    private Property<String> index;
+
+    @NotNull
+    @Schema(title = "Document IDs", description = "URI in Kestra storage of the .ion file with the IDs of the reference documents.")
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @NotNull
+    @Schema(title = "Embedder", description = "Name of the index embedder used to compare documents.")
+    @PluginProperty(group = "main")
+    private Property<String> embedder;
+
+    @Schema(title = "Limit", description = "Maximum number of similar documents returned per reference document.")
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit = Property.ofValue(DEFAULT_LIMIT);
+
+    @Schema(title = "Filter", description = "Meilisearch filter restricting the candidate similar documents.")
+    @PluginProperty(group = "processing")
+    private Property<String> filter;
+
+    @Schema(title = "Concurrency", description = "Maximum number of similar documents requests in flight.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(DEFAULT_CONCURRENCY);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        MeilisearchApi api = this.createApi(runContext);
+        var renderedIndex = runContext.render(this.index).as(String.class).orElseThrow();
+        var renderedConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(DEFAULT_CONCURRENCY);
+        if (!(api.get("/indexes/" + renderedIndex).get("primaryKey") instanceof String primaryKey)) {
+            throw new IllegalArgumentException(String.format("Index '%s' has no primary key yet; add documents or set its primary key before looking up similar documents", renderedIndex));
+        }
+
+        Map<String, Object> baseRequest = new HashMap<>();
+        baseRequest.put("embedder", runContext.render(this.embedder).as(String.class).orElseThrow());
+        baseRequest.put("limit", runContext.render(this.limit).as(Integer.class).orElse(DEFAULT_LIMIT));
+        baseRequest.put("attributesToRetrieve", List.of(primaryKey));
+        baseRequest.put("showRankingScore", true);
+        runContext.render(this.filter).as(String.class).ifPresent(value -> baseRequest.put("filter", value));
+
+        URI uri = URI.create(runContext.render(this.from).as(String.class).orElseThrow());
+        String path = "/indexes/" + renderedIndex + "/similar";
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        Long count;
+        try (
+            BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri)), FileSerde.BUFFER_SIZE);
+            var output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Map<String, Object>> rowFlux = FileSerde.readAll(reader)
+                .map(row -> row instanceof Map<?, ?> document ? document.get(primaryKey) : row)
+                .flatMap(
+                    id -> Mono.fromCallable(() -> {
+                        Map<String, Object> request = new HashMap<>(baseRequest);
+                        request.put("id", id);
+                        return similarRow(id, api.post(path, request), primaryKey);
+                    }).subscribeOn(Schedulers.boundedElastic()),
+                    renderedConcurrency
+                );
+
+            count = FileSerde.writeAll(output, rowFlux).blockOptional().orElse(0L);
+        }
+
+        runContext.metric(Counter.of("documents", count));
+        logger.info("Fetched similar documents for {} documents of index {}", count, renderedIndex);
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .count(count)
+            .build();
+    }
+
+    private static Map<String, Object> similarRow(Object id, Map<String, Object> response, String primaryKey) {
+        List<Object> similarIds = new ArrayList<>();
+        List<Object> scores = new ArrayList<>();
+        if (response.get("hits") instanceof List<?> hits) {
+            for (Object hit : hits) {
+                if (hit instanceof Map<?, ?> document) {
+                    similarIds.add(document.get(primaryKey));
+                    scores.add(document.get("_rankingScore"));
+                }
+            }
+        }
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("similarIds", similarIds);
+        row.put("scores", scores);
+        return row;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Output URI", description = "URI in Kestra storage to the .ion file with one `{id, similarIds, scores}` row per reference document.")
+        private final URI uri;
+        @Schema(title = "Count", description = "Number of reference documents processed.")
+        private final Long count;
+    }
+}
@@ -0,0 +1,105 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * In-flight deduplication of identical requests issued concurrently on the same worker: the first caller performs the
+ * call and the others wait for its result. A key is removed before its result is published, so a result is never
+ * handed to a caller arriving after the call completed; there is no caching. When the first caller fails because its
+ * own execution was interrupted, the waiting callers issue the call again instead of failing with it.
+ */
+final class SingleFlight {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ConcurrentHashMap<String, CompletableFuture<Object>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    private SingleFlight() {
+    }
+
+    /**
+     * Builds the in-flight key of a request; the parts include the API key, so only their SHA-256 digest is kept.
+     */
+    static String key(Object... parts) throws JsonProcessingException {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(MAPPER.writeValueAsBytes(Arrays.asList(parts))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Result<T> execute(String key, Callable<T> call) throws Exception {
+        while (true) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existing = IN_FLIGHT.putIfAbsent(key, future);
+            if (existing == null) {
+                return lead(key, future, call);
+            }
+
+            try {
+                return new Result<>((T) existing.get(), true);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof LeaderAborted) {
+                    // the leader's execution was killed or timed out: that failure is not ours, so issue the call again
+                    continue;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+
+    private static <T> Result<T> lead(String key, CompletableFuture<Object> future, Callable<T> call) throws Exception {
+        T value;
+        try {
+            value = call.call();
+        } catch (Throwable e) {
+            // whatever the failure, followers must be released and the key freed, or identical requests would block forever
+            IN_FLIGHT.remove(key, future);
+            future.completeExceptionally(Thread.currentThread().isInterrupted() || isInterruption(e) ? new LeaderAborted(e) : e);
+            throw e;
+        }
+
+        IN_FLIGHT.remove(key, future);
+        future.complete(value);
+        return new Result<>(value, false);
+    }
+
+    private static boolean isInterruption(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException
+                || cause instanceof InterruptedIOException
+                || cause instanceof ClosedByInterruptException
+                || cause instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks a leader failure caused by its own execution being interrupted, which followers must not inherit.
+     */
+    private static final class LeaderAborted extends Exception {
+        LeaderAborted(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    record Result<T>(T value, boolean shared) {
+    }
+}
@@ -0,0 +1,108 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+import com.meilisearch.sdk.Client;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Create a Meilisearch snapshot",
+    description = """
+        Triggers a [snapshot](https://www.meilisearch.com/docs/reference/api/snapshots) of the whole Meilisearch instance and waits for it to complete. A snapshot is a binary copy of the database that restores almost instantly by starting the same Meilisearch version with `--import-snapshot`, without re-indexing anything.
+
+        The snapshot file is written to the server's snapshot directory; Meilisearch does not expose its size through the API."""
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Snapshot a Meilisearch instance after a bulk ingestion",
+            full = true,
+            code = {
+                """
+                    id: meilisearch_snapshot_flow
+                    namespace: company.team
+
+                    tasks:
+                      - id: add
+                        type: io.kestra.plugin.meilisearch.DocumentAdd
+                        index: movies
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                        from: "{{ inputs.file }}"
+
+                      - id: snapshot
+                        type: io.kestra.plugin.meilisearch.SnapshotCreate
+                        url: http://172.18.0.3:7700/
+                        key: "{{ secret('MEILISEARCH_MASTER_KEY') }}"
+                    """
+            }
+        )
+    },
+    metrics = {
+        @Metric(name = "duration", description = "The time between the snapshot request and its completion", type = Timer.TYPE)
+    }
+)
+public class SnapshotCreate extends AbstractMeilisearchConnection implements RunnableTask<SnapshotCreate.Output> {
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(30);
+
+    @Schema(title = "Wait timeout", description = "Maximum time to wait for the snapshot to complete.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> waitTimeout = Property.ofValue(DEFAULT_WAIT_TIMEOUT);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Client client = this.createClient(runContext);
+        Duration timeout = runContext.render(this.waitTimeout).as(Duration.class).orElse(DEFAULT_WAIT_TIMEOUT);
+
+        long start = System.nanoTime();
+        int taskUid = client.createSnapshot().getTaskUid();
+        logger.info("Snapshot enqueued as task {}", taskUid);
+
+        MeilisearchTasks.ensureSucceeded(MeilisearchTasks.await(client, taskUid, timeout), String.format("snapshot task %d", taskUid));
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        runContext.metric(Timer.of("duration", duration));
+        logger.info("Snapshot created in {}", duration);
+
+        return Output.builder()
+            .taskUid(taskUid)
+            .duration(duration)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Task UID", description = "UID of the Meilisearch snapshot task.")
+        private final Integer taskUid;
+        @Schema(title = "Duration", description = "Time between the snapshot request and its completion.")
+        private final Duration duration;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,9 +15,12 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableMap;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.model.Faceting;
 import com.meilisearch.sdk.model.Settings;
 
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
@@ -27,7 +31,7 @@ import io.kestra.core.utils.IdUtils;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.core.Is.is;
+import static org.hamcrest.Matchers.*;
 
 @KestraTest
 class DocumentAddFacetSearchTest {
@@ -70,6 +74,59 @@ class DocumentAddFacetSearchTest {
         assertThat(facetHits.getFirst().get("count"), is(3.0));
     }
 
+    @Test
+    void testFacetSearchFetchTypes() throws Exception {
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/facetSearchMovies");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), FACET_SEARCH_INDEX).run(runContextFactory.of(ImmutableMap.of()));
+
+        FacetSearch fetch = FacetSearch.builder()
+            .facetName(Property.ofValue("genres"))
+            .facetQuery(Property.ofValue("fiction"))
+            .filters(Property.ofValue(List.of("rating > 3")))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .index(Property.ofValue(FACET_SEARCH_INDEX))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        FacetSearch.Output fetchOutput = fetch.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(fetchOutput.getTotalHits(), is(1L));
+        assertThat(fetchOutput.getUri(), nullValue());
+        assertThat(fetchOutput.getRows(), hasSize(1));
+        assertThat(fetchOutput.getRows().getFirst().get("value"), is("Fiction"));
+        assertThat(fetchOutput.getRows().getFirst().get("count"), is(3.0));
+
+        FacetSearch fetchOne = FacetSearch.builder()
+            .facetName(Property.ofValue("genres"))
+            .facetQuery(Property.ofValue("fiction"))
+            .filters(Property.ofValue(List.of("rating > 3")))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .index(Property.ofValue(FACET_SEARCH_INDEX))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        FacetSearch.Output fetchOneOutput = fetchOne.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(fetchOneOutput.getRow(), is(fetchOutput.getRows().getFirst()));
+        assertThat(fetchOneOutput.getRows(), nullValue());
+
+        FacetSearch none = FacetSearch.builder()
+            .facetName(Property.ofValue("genres"))
+            .facetQuery(Property.ofValue("fiction"))
+            .filters(Property.ofValue(List.of("rating > 3")))
+            .fetchType(Property.ofValue(FetchType.NONE))
+            .index(Property.ofValue(FACET_SEARCH_INDEX))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        FacetSearch.Output noneOutput = none.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(noneOutput.getTotalHits(), is(1L));
+        assertThat(noneOutput.getRows(), nullValue());
+        assertThat(noneOutput.getUri(), nullValue());
+    }
+
     @Test
     void testFacetSearchEmptyHits() throws Exception {
         final String facetName = "genres";
@@ -85,6 +142,44 @@ class DocumentAddFacetSearchTest {
         assertThat(searchOutput.getTotalHits(), is(0L));
     }
 
+    @Test
+    void testExhaustiveFacetSearch() throws Exception {
+        String index = "testExhaustive" + IdUtils.create();
+
+        // a server cap of 2 values per facet forces the root partition to be split by prefix
+        Faceting faceting = new Faceting();
+        faceting.setMaxValuesPerFacet(2);
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "genres", "rating" });
+        settings.setFaceting(faceting);
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/facetSearchMovies");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        FacetSearch facetSearch = FacetSearch.builder()
+            .facetName(Property.ofValue("genres"))
+            .exhaustive(Property.ofValue(true))
+            .index(Property.ofValue(index))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        FacetSearch.Output output = facetSearch.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getTotalHits(), is(2L));
+
+        BufferedReader searchInputStream = new BufferedReader(new InputStreamReader(storageInterface.get(TenantService.MAIN_TENANT, null, output.getUri())));
+        Map<String, Object> counts = new HashMap<>();
+        FileSerde.reader(searchInputStream, r -> {
+            Map<String, Object> row = (Map<String, Object>) r;
+            counts.put((String) row.get("value"), row.get("count"));
+        });
+
+        assertThat(counts.get("Fiction"), is(4.0));
+        assertThat(counts.get("Drama"), is(2.0));
+    }
+
     @BeforeAll
     static void setupFilterableFields() {
         Settings settings = new Settings();
@@ -1,18 +1,25 @@
 package io.kestra.plugin.meilisearch;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableMap;
+import com.meilisearch.sdk.model.Faceting;
+import com.meilisearch.sdk.model.Settings;
 
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
@@ -75,4 +82,155 @@ class DocumentAddSearchTest {
 
         assertThat(searchOutput.getTotalHits(), is(0L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchFetchTypes() throws Exception {
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/basicSearchName");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), SEARCH_INDEX).run(runContextFactory.of(ImmutableMap.of()));
+
+        Search fetch = Search.builder()
+            .query(Property.ofValue("John"))
+            .index(Property.ofValue(SEARCH_INDEX))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        Search.Output fetchOutput = fetch.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(fetchOutput.getTotalHits(), is(2L));
+        assertThat(fetchOutput.getRows(), hasSize(2));
+        assertThat(fetchOutput.getUri(), nullValue());
+
+        Search none = Search.builder()
+            .query(Property.ofValue("John"))
+            .index(Property.ofValue(SEARCH_INDEX))
+            .fetchType(Property.ofValue(FetchType.NONE))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        Search.Output noneOutput = none.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(noneOutput.getTotalHits(), is(2L));
+        assertThat(noneOutput.getRows(), nullValue());
+        assertThat(noneOutput.getUri(), nullValue());
+    }
+
+    @Test
+    void testSearchByIds() throws Exception {
+        String index = "testSearchIds" + IdUtils.create();
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "id" });
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/basicSearchName");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        URI ids = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream("\"testSearch2\"\n{\"id\": \"testSearch3\"}\n\"testSearch2\"".getBytes(StandardCharsets.UTF_8))
+        );
+
+        Search search = Search.builder()
+            .query(Property.ofValue("John"))
+            .index(Property.ofValue(index))
+            .idsFrom(Property.ofValue(ids.toString()))
+            .idsChunkSize(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        Search.Output output = search.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getTotalHits(), is(1L));
+        assertThat(output.getRows().getFirst().get("id"), is("testSearch2"));
+    }
+
+    @Test
+    void testSearchByIdsWithoutDisplayedIdAttribute() throws Exception {
+        String index = "testSearchIdsHidden" + IdUtils.create();
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "id" });
+        settings.setDisplayedAttributes(new String[] { "name" });
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        List<Map<String, Object>> documents = List.of(
+            Map.of("id", "1", "name", "John Doe"),
+            Map.of("id", "2", "name", "John Smith"),
+            Map.of("id", "3", "name", "John Roe")
+        );
+        TestUtils.createDocumentAdd(documents, index).run(runContextFactory.of(ImmutableMap.of()));
+
+        URI ids = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream("\"1\"\n\"2\"".getBytes(StandardCharsets.UTF_8))
+        );
+
+        Search search = Search.builder()
+            .query(Property.ofValue("John"))
+            .index(Property.ofValue(index))
+            .idsFrom(Property.ofValue(ids.toString()))
+            .idsChunkSize(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        Search.Output output = search.run(runContextFactory.of(ImmutableMap.of()));
+
+        // the id attribute is not returned, so hits must not be merged on it
+        assertThat(output.getTotalHits(), is(2L));
+        assertThat(output.getRows().stream().map(row -> row.get("name")).toList(), containsInAnyOrder("John Doe", "John Smith"));
+    }
+
+    @Test
+    void testFacetSearchByIds() throws Exception {
+        String index = "testFacetSearchIds" + IdUtils.create();
+        // a cap of 2 values per facet truncates the first chunk, which holds 3 genres
+        Faceting faceting = new Faceting();
+        faceting.setMaxValuesPerFacet(2);
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "id", "genres" });
+        settings.setFaceting(faceting);
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        List<Map<String, Object>> documents = List.of(
+            Map.of("id", "1", "genres", List.of("Action", "Comedy", "Drama")),
+            Map.of("id", "2", "genres", List.of("Action")),
+            Map.of("id", "3", "genres", List.of("Comedy")),
+            Map.of("id", "4", "genres", List.of("Drama")),
+            Map.of("id", "5", "genres", List.of("Action"))
+        );
+        TestUtils.createDocumentAdd(documents, index).run(runContextFactory.of(ImmutableMap.of()));
+
+        URI ids = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream("\"1\"\n\"2\"\n{\"id\": \"3\"}\n\"4\"".getBytes(StandardCharsets.UTF_8))
+        );
+
+        FacetSearch facetSearch = FacetSearch.builder()
+            .facetName(Property.ofValue("genres"))
+            .index(Property.ofValue(index))
+            .idsFrom(Property.ofValue(ids.toString()))
+            .idsChunkSize(Property.ofValue(2))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        FacetSearch.Output output = facetSearch.run(runContextFactory.of(ImmutableMap.of()));
+
+        Map<Object, Object> counts = new HashMap<>();
+        output.getRows().forEach(row -> counts.put(row.get("value"), row.get("count")));
+
+        assertThat(output.getTotalHits(), is(3L));
+        assertThat(counts.get("Action"), is(2.0));
+        assertThat(counts.get("Comedy"), is(2.0));
+        assertThat(counts.get("Drama"), is(2.0));
+    }
+}
@@ -3,6 +3,10 @@ package io.kestra.plugin.meilisearch;
 import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -10,6 +14,10 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableMap;
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
@@ -65,6 +73,89 @@ class DocumentAddTest {
         assertThat(document.get("name"), is("Person7"));
     }
 
+    @Test
+    void testDocumentAddFromMultipleSources() throws Exception {
+        String index = "testSources" + IdUtils.create();
+        List<String> sources = this.putPartitionedDocuments(3, 5);
+
+        DocumentAdd documentAdd = DocumentAdd.builder()
+            .from(sources)
+            .index(Property.ofValue(index))
+            .batchSize(Property.ofValue(10))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        DocumentAdd.Output output = documentAdd.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getDocumentsAdded(), is(15));
+        assertThat(output.getTaskUids(), hasSize(2));
+
+        DocumentGet documentGet = TestUtils.createDocumentGet("12", index);
+        Map<String, Object> document = documentGet.run(runContextFactory.of(ImmutableMap.of())).getDocument();
+        assertThat(document.get("name"), is("Person12"));
+    }
+
+    @Test
+    void testDocumentAddFromRenderedSources() throws Exception {
+        String index = "testRenderedSources" + IdUtils.create();
+        List<String> sources = this.putPartitionedDocuments(3, 5);
+
+        // the URIs come from an upstream output, as in `from: "{{ outputs.split.uris }}"`
+        DocumentAdd documentAdd = DocumentAdd.builder()
+            .from("{{ uris }}")
+            .index(Property.ofValue(index))
+            .batchSize(Property.ofValue(10))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        DocumentAdd.Output output = documentAdd.run(runContextFactory.of(ImmutableMap.of("uris", sources)));
+
+        assertThat(output.getDocumentsAdded(), is(15));
+        assertThat(output.getTaskUids(), hasSize(2));
+
+        DocumentGet documentGet = TestUtils.createDocumentGet("12", index);
+        Map<String, Object> document = documentGet.run(runContextFactory.of(ImmutableMap.of())).getDocument();
+        assertThat(document.get("name"), is("Person12"));
+    }
+
+    @Test
+    void testKilledDocumentAddSendsNoBatch() throws Exception {
+        String index = "testKill" + IdUtils.create();
+        List<Map<String, Object>> documents = IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> Map.<String, Object>of("id", String.valueOf(i), "name", "Person" + i))
+            .toList();
+        DocumentAdd documentAdd = TestUtils.createDocumentAdd(documents, index);
+
+        documentAdd.kill();
+
+        Exception exception = assertThrows(Exception.class, () -> documentAdd.run(runContextFactory.of(ImmutableMap.of())));
+        assertThat(exception.getMessage(), containsString("Killed"));
+        assertThat(TestUtils.createClient().getTasks(new TasksQuery().setIndexUids(new String[] { index })).getResults(), emptyArray());
+    }
+
+    @Test
+    void testKillSendsCancelRequest() throws Exception {
+        String index = "testCancel" + IdUtils.create();
+        Client client = TestUtils.createClient();
+        int taskUid = client.index(index).addDocuments("[{\"id\": \"1\", \"name\": \"Person1\"}]").getTaskUid();
+
+        MeilisearchTasks.Pending pending = new MeilisearchTasks.Pending(client, runContextFactory.of(ImmutableMap.of()).logger());
+        pending.add(taskUid);
+        pending.cancelAll();
+
+        // the indexing task may already be done, but a cancelation task targeting it must have been enqueued
+        Task[] cancelations = client.getTasks(new TasksQuery().setTypes(new String[] { "taskCancelation" })).getResults();
+        assertThat(
+            Arrays.stream(cancelations).anyMatch(task -> task.getDetails() != null && String.valueOf(task.getDetails().getOriginalFilter()).contains("uids=" + taskUid)),
+            is(true)
+        );
+
+        Task indexing = MeilisearchTasks.await(client, taskUid, Duration.ofMinutes(1));
+        assertThat(indexing.getStatus(), anyOf(is(TaskStatus.CANCELED), is(TaskStatus.SUCCEEDED)));
+    }
+
     @Test
     void testDocumentAddFailsWhenIndexingTaskFails() throws Exception {
         String index = "testFailure" + IdUtils.create();
@@ -83,4 +174,25 @@ class DocumentAddTest {
 
         assertThat(exception.getMessage(), containsString("primary key"));
     }
+
+    /**
+     * Stores {@code partitions} ion files of {@code size} documents each, with ids numbered from 1 across the files.
+     */
+    private List<String> putPartitionedDocuments(int partitions, int size) throws Exception {
+        List<String> sources = new ArrayList<>();
+        for (int part = 0; part < partitions; part++) {
+            int offset = part * size;
+            String documents = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> "{\"id\": \"" + (offset + i) + "\",\"name\": \"Person" + (offset + i) + "\"}")
+                .collect(Collectors.joining("\n"));
+            URI uri = storageInterface.put(
+                TenantService.MAIN_TENANT,
+                null,
+                URI.create("/" + IdUtils.create() + ".ion"),
+                new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8))
+            );
+            sources.add(uri.toString());
+        }
+        return sources;
+    }
 }
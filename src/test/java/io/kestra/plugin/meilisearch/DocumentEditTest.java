@@ -0,0 +1,65 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.meilisearch.sdk.model.Settings;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class DocumentEditTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void testDocumentEdit() throws Exception {
+        String index = "testEdit" + IdUtils.create();
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "id" });
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/documentAdd");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        DocumentEdit documentEdit = DocumentEdit.builder()
+            .index(Property.ofValue(index))
+            .filter(Property.ofValue("id = 3"))
+            .function(Property.ofValue("doc.name = doc.name + context.suffix"))
+            .context(Property.ofValue(Map.of("suffix", " Edited")))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        DocumentEdit.Output output = documentEdit.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getDocumentsEdited(), is(1L));
+
+        Map<String, Object> document = TestUtils.createDocumentGet("3", index).run(runContextFactory.of(ImmutableMap.of())).getDocument();
+        assertThat(document.get("name"), is("Bryan Edited"));
+    }
+
+    @BeforeAll
+    static void enableEditDocumentsByFunction() throws Exception {
+        TestUtils.request("PATCH", "/experimental-features", "{\"editDocumentsByFunction\": true}");
+    }
+}
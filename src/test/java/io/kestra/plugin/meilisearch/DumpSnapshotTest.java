@@ -0,0 +1,46 @@
+package io.kestra.plugin.meilisearch;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class DumpSnapshotTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testDumpCreate() throws Exception {
+        DumpCreate dumpCreate = DumpCreate.builder()
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        DumpCreate.Output output = dumpCreate.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getTaskUid(), notNullValue());
+        assertThat(output.getDumpUid(), not(emptyOrNullString()));
+        assertThat(output.getDuration(), notNullValue());
+    }
+
+    @Test
+    void testSnapshotCreate() throws Exception {
+        SnapshotCreate snapshotCreate = SnapshotCreate.builder()
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        SnapshotCreate.Output output = snapshotCreate.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getTaskUid(), notNullValue());
+        assertThat(output.getDuration(), notNullValue());
+    }
+}
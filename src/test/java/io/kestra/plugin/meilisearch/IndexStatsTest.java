@@ -0,0 +1,50 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.InputStream;
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class IndexStatsTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void testIndexStats() throws Exception {
+        String index = "testStats" + IdUtils.create();
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/documentAdd");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        IndexStats indexStats = IndexStats.builder()
+            .index(Property.ofValue(index))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+        IndexStats.Output output = indexStats.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getNumberOfDocuments(), is(3L));
+        assertThat(output.getIsIndexing(), is(false));
+        assertThat(output.getDatabaseSize(), greaterThan(0L));
+        assertThat(output.getFieldDistribution(), hasEntry("name", 3L));
+    }
+}
@@ -0,0 +1,90 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.meilisearch.sdk.model.Settings;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class IndexWarmUpTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void testWarmUpFromFacets() throws Exception {
+        String index = "testWarmUp" + IdUtils.create();
+        Settings settings = new Settings();
+        settings.setFilterableAttributes(new String[] { "genres", "rating" });
+        TestUtils.createClient().index(index).updateSettings(settings);
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/facetSearchMovies");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        IndexWarmUp warmUp = IndexWarmUp.builder()
+            .index(Property.ofValue(index))
+            .targetLatency(Property.ofValue(Duration.ofSeconds(5)))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        IndexWarmUp.Output output = warmUp.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getRounds(), is(1));
+        assertThat(output.getStabilized(), is(true));
+        assertThat(output.getLatencyAfter(), lessThanOrEqualTo(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void testWarmUpStopsAfterMaxRounds() throws Exception {
+        String index = "testWarmUpRounds" + IdUtils.create();
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/facetSearchMovies");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(uri.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        URI queries = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream("\"film\"\n{\"q\": \"fiction\"}".getBytes(StandardCharsets.UTF_8))
+        );
+
+        // no search answers within a nanosecond, so every round is replayed
+        IndexWarmUp warmUp = IndexWarmUp.builder()
+            .index(Property.ofValue(index))
+            .from(Property.ofValue(queries.toString()))
+            .targetLatency(Property.ofValue(Duration.ofNanos(1)))
+            .maxRounds(Property.ofValue(3))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        IndexWarmUp.Output output = warmUp.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getRounds(), is(3));
+        assertThat(output.getStabilized(), is(false));
+        assertThat(output.getLatencyAfter(), greaterThan(Duration.ofNanos(1)));
+    }
+}
@@ -0,0 +1,83 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class SearchLoadTestTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void testSearchLoadTest() throws Exception {
+        String index = "testLoad" + IdUtils.create();
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("examples/basicSearchName");
+        URI documents = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), inputStream);
+        TestUtils.createDocumentAdd(documents.toString(), index).run(runContextFactory.of(ImmutableMap.of()));
+
+        String queries = "{\"q\": \"John\"}\n\"Bryan\"";
+        URI queriesUri = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream(queries.getBytes(StandardCharsets.UTF_8))
+        );
+
+        SearchLoadTest loadTest = SearchLoadTest.builder()
+            .index(Property.ofValue(index))
+            .from(Property.ofValue(queriesUri.toString()))
+            .duration(Property.ofValue(Duration.ofSeconds(2)))
+            .concurrency(Property.ofValue(2))
+            .rate(Property.ofValue(20))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        SearchLoadTest.Output output = loadTest.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getRequests(), allOf(greaterThan(30L), lessThanOrEqualTo(40L)));
+        assertThat(output.getErrors(), is(0L));
+        assertThat(output.getP99(), greaterThan(Duration.ZERO));
+        assertThat(output.getMax(), greaterThanOrEqualTo(output.getP99()));
+        assertThat(output.getUri(), notNullValue());
+    }
+
+    @Test
+    void testInvalidRateIsRejected() {
+        SearchLoadTest loadTest = SearchLoadTest.builder()
+            .index(Property.ofValue("testLoad"))
+            .from(Property.ofValue("kestra:///unused.ion"))
+            .rate(Property.ofValue(0))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> loadTest.run(runContextFactory.of(ImmutableMap.of())));
+
+        assertThat(exception.getMessage(), containsString("'rate'"));
+    }
+}
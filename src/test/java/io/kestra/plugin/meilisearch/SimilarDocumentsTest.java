@@ -0,0 +1,78 @@
+package io.kestra.plugin.meilisearch;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class SimilarDocumentsTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void testSimilarDocuments() throws Exception {
+        String index = "testSimilar" + IdUtils.create();
+
+        TestUtils.createIndexWithEmbedder(index, "default", 2);
+
+        List<Map<String, Object>> documents = List.of(
+            Map.of("id", "1", "_vectors", Map.of("default", List.of(1.0, 0.0))),
+            Map.of("id", "2", "_vectors", Map.of("default", List.of(0.9, 0.1))),
+            Map.of("id", "3", "_vectors", Map.of("default", List.of(0.0, 1.0)))
+        );
+        TestUtils.createDocumentAdd(documents, index).run(runContextFactory.of(ImmutableMap.of()));
+
+        URI ids = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            URI.create("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream("\"1\"\n{\"id\": \"3\"}".getBytes(StandardCharsets.UTF_8))
+        );
+
+        SimilarDocuments similarDocuments = SimilarDocuments.builder()
+            .index(Property.ofValue(index))
+            .from(Property.ofValue(ids.toString()))
+            .embedder(Property.ofValue("default"))
+            .limit(Property.ofValue(1))
+            .url(TestUtils.URL)
+            .key(TestUtils.MASTER_KEY)
+            .build();
+
+        SimilarDocuments.Output output = similarDocuments.run(runContextFactory.of(ImmutableMap.of()));
+
+        assertThat(output.getCount(), is(2L));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(TenantService.MAIN_TENANT, null, output.getUri())));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        FileSerde.reader(reader, r -> rows.add((Map<String, Object>) r));
+
+        Map<String, Object> first = rows.stream().filter(row -> "1".equals(row.get("id"))).findFirst().orElseThrow();
+        assertThat((List<Object>) first.get("similarIds"), contains("2"));
+        assertThat((List<Object>) first.get("scores"), hasSize(1));
+    }
+}
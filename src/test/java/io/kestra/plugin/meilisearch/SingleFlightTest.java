@@ -0,0 +1,121 @@
+package io.kestra.plugin.meilisearch;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class SingleFlightTest {
+    @Test
+    void testConcurrentCallsAreShared() throws Exception {
+        String key = SingleFlight.key("search", "movies", "matrix");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<SingleFlight.Result<String>> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return SingleFlight.execute(key, () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return "result";
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        CompletableFuture<SingleFlight.Result<String>> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return SingleFlight.execute(key, () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // give the second caller time to join the in-flight call
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get().shared(), is(false));
+        assertThat(second.get().shared(), is(true));
+        assertThat(second.get().value(), is("result"));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void testCompletedCallsAreNotCached() throws Exception {
+        String key = SingleFlight.key("getDocument", "movies", "1");
+        AtomicInteger calls = new AtomicInteger();
+
+        SingleFlight.execute(key, calls::incrementAndGet);
+        SingleFlight.Result<Integer> result = SingleFlight.execute(key, calls::incrementAndGet);
+
+        assertThat(result.shared(), is(false));
+        assertThat(result.value(), is(2));
+    }
+
+    @Test
+    void testErrorsReleaseTheKey() throws Exception {
+        String key = SingleFlight.key("search", "movies", "error");
+
+        assertThrows(AssertionError.class, () -> SingleFlight.execute(key, () -> {
+            throw new AssertionError("boom");
+        }));
+
+        SingleFlight.Result<String> result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> SingleFlight.execute(key, () -> "result"));
+        assertThat(result.shared(), is(false));
+        assertThat(result.value(), is("result"));
+    }
+
+    @Test
+    void testKeyDoesNotContainTheApiKey() throws Exception {
+        assertThat(SingleFlight.key("http://localhost:7700", "MASTER_KEY", "search"), not(containsString("MASTER_KEY")));
+    }
+
+    @Test
+    void testFollowersRetryWhenLeaderIsInterrupted() throws Exception {
+        String key = SingleFlight.key("search", "movies", "interrupted");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() -> {
+            try {
+                SingleFlight.execute(key, () -> {
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    throw new InterruptedException("killed");
+                });
+            } catch (Exception ignored) {
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        CompletableFuture<SingleFlight.Result<String>> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return SingleFlight.execute(key, () -> "own result");
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // give the follower time to join the in-flight call
+        Thread.sleep(200);
+        release.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+
+        assertThat(follower.get(10, TimeUnit.SECONDS).value(), is("own result"));
+        assertThat(follower.get().shared(), is(false));
+    }
+}
@@ -1,13 +1,69 @@
 package io.kestra.plugin.meilisearch;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+
 import io.kestra.core.models.property.Property;
 
 public class TestUtils {
+    private static final String HOST = "http://localhost:7700";
+    private static final String KEY = "MASTER_KEY";
+    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TASK_TIMEOUT = Duration.ofMinutes(1);
+
+    public static final Property<String> URL = Property.ofValue(HOST);
+    public static final Property<String> MASTER_KEY = Property.ofValue(KEY);
+
+    public static Client createClient() {
+        return new Client(new Config(HOST, KEY));
+    }
+
+    /**
+     * Creates an index with an {@code id} primary key and a user-provided embedder of the given dimensions, and waits
+     * for both settings tasks to succeed.
+     */
+    public static void createIndexWithEmbedder(String index, String embedder, int dimensions) throws Exception {
+        Client client = createClient();
+        awaitSucceeded(client, client.createIndex(index, "id").getTaskUid());
+
+        String response = request(
+            "PATCH",
+            "/indexes/" + index + "/settings/embedders",
+            "{\"" + embedder + "\": {\"source\": \"userProvided\", \"dimensions\": " + dimensions + "}}"
+        );
+        awaitSucceeded(client, MAPPER.readTree(response).get("taskUid").asInt());
+    }
+
+    private static void awaitSucceeded(Client client, int taskUid) throws Exception {
+        MeilisearchTasks.ensureSucceeded(MeilisearchTasks.await(client, taskUid, TASK_TIMEOUT), "test setup task " + taskUid);
+    }
 
-    public static final Property<String> URL = Property.ofValue("http://localhost:7700");
-    public static final Property<String> MASTER_KEY = Property.ofValue("MASTER_KEY");
+    /**
+     * Sends a raw request to the test Meilisearch instance, for the routes the SDK does not cover, and fails on an error status.
+     */
+    public static String request(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(HOST + path))
+            .header("Authorization", "Bearer " + KEY)
+            .header("Content-Type", "application/json")
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+
+        HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(String.format("%s %s failed with status %d: %s", method, path, response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
 
     public static DocumentAdd createDocumentAdd(Object from, String index) {
         return DocumentAdd.builder()